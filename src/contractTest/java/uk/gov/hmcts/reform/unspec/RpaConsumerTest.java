@@ -22,6 +22,7 @@ import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.unspec.sendgrid.SendGridClient;
 import uk.gov.hmcts.reform.unspec.service.OrganisationService;
+import uk.gov.hmcts.reform.unspec.service.UserTokenCache;
 import uk.gov.hmcts.reform.unspec.service.flowstate.FlowState;
 import uk.gov.hmcts.reform.unspec.service.flowstate.StateFlowEngine;
 import uk.gov.hmcts.reform.unspec.service.robotics.mapper.EventHistoryMapper;
@@ -75,6 +76,8 @@ class RpaConsumerTest extends BaseRpaTest {
     @MockBean
     IdamClient idamClient;
     @MockBean
+    UserTokenCache userTokenCache;
+    @MockBean
     PrdAdminUserConfiguration userConfig;
 
     @BeforeEach
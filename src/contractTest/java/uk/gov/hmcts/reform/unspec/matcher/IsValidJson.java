@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.unspec.matcher;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -7,7 +8,7 @@ import uk.gov.hmcts.reform.unspec.service.robotics.JsonSchemaValidationService;
 
 public class IsValidJson extends TypeSafeMatcher<String> {
 
-    private JsonSchemaValidationService validationService = new JsonSchemaValidationService();
+    private JsonSchemaValidationService validationService = new JsonSchemaValidationService(new SimpleMeterRegistry());
 
     @Override
     protected boolean matchesSafely(String json) {
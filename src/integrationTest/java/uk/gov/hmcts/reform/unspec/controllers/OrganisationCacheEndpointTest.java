@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.unspec.controllers;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+import uk.gov.hmcts.reform.unspec.service.OrganisationService;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = "management.endpoint.organisations.enabled=true")
+public class OrganisationCacheEndpointTest extends BaseIntegrationTest {
+
+    private static final String ORGANISATION_ID = "QWERTY";
+
+    @MockBean
+    private OrganisationService organisationService;
+
+    @Test
+    @SneakyThrows
+    public void shouldEvictOrganisation_whenCivilAdmin() {
+        givenUserRoles("caseworker-civil-admin");
+
+        mockMvc.perform(delete("/organisations/{organisationId}", ORGANISATION_ID)
+                            .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN))
+            .andExpect(status().isNoContent());
+
+        verify(organisationService).evictOrganisation(ORGANISATION_ID);
+    }
+
+    @Test
+    @SneakyThrows
+    public void shouldEvictAllOrganisations_whenCivilAdmin() {
+        givenUserRoles("caseworker-civil-admin");
+
+        mockMvc.perform(delete("/organisations").header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN))
+            .andExpect(status().isNoContent());
+
+        verify(organisationService).evictAll();
+    }
+
+    @Test
+    @SneakyThrows
+    public void shouldReturnForbidden_whenNotCivilAdmin() {
+        mockMvc.perform(delete("/organisations").header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN))
+            .andExpect(status().isForbidden());
+
+        verifyNoInteractions(organisationService);
+    }
+
+    private void givenUserRoles(String... roles) {
+        when(userService.getUserInfo(anyString())).thenReturn(UserInfo.builder()
+                                                                  .sub("admin@example.com")
+                                                                  .roles(List.of(roles))
+                                                                  .build());
+    }
+}
@@ -0,0 +1,69 @@
+package uk.gov.hmcts.reform.unspec.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.unspec.enums.CaseState;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDetailsBuilder;
+import uk.gov.hmcts.reform.unspec.service.flowstate.FlowState;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares converting case details through the token buffer of {@link CaseDetailsConverter} with copying the data
+ * map and running convertValue, which the converter did before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CaseDetailsConverterBenchmark {
+
+    @Param({"DRAFT", "CLAIM_ISSUED", "FULL_DEFENCE_PROCEED"})
+    public FlowState.Main flowState;
+
+    private ObjectMapper objectMapper;
+    private CaseDetailsConverter caseDetailsConverter;
+    private CaseDetails caseDetails;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        caseDetailsConverter = new CaseDetailsConverter(objectMapper);
+        caseDetails = CaseDetailsBuilder.builder()
+            .data(CaseDataBuilder.builder().atState(flowState).build())
+            .build();
+    }
+
+    @Benchmark
+    public CaseData toCaseData() {
+        return caseDetailsConverter.toCaseData(caseDetails);
+    }
+
+    @Benchmark
+    public CaseData convertValue() {
+        Map<String, Object> data = new HashMap<>(caseDetails.getData());
+        data.put("ccdCaseReference", caseDetails.getId());
+        if (caseDetails.getState() != null) {
+            data.put("ccdState", CaseState.valueOf(caseDetails.getState()));
+        }
+        return objectMapper.convertValue(data, CaseData.class);
+    }
+}
@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.unspec.service.flowstate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Measures a single flow predicate against sample cases at every flow state, one operation is one sweep.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlowPredicateBenchmark {
+
+    @Param({
+        "pendingCaseIssued",
+        "respondent1NotRepresented",
+        "respondent1OrgNotRegistered",
+        "paymentFailed",
+        "paymentSuccessful",
+        "claimIssued",
+        "claimNotified",
+        "claimDetailsNotified",
+        "respondentAcknowledgeClaim",
+        "respondentFullDefence",
+        "respondentFullAdmission",
+        "respondentPartAdmission",
+        "respondentCounterClaim",
+        "fullDefenceProceed",
+        "fullDefenceNotProceed",
+        "claimWithdrawn",
+        "respondentAgreedExtension",
+        "claimDiscontinued",
+        "claimTakenOffline",
+        "caseProceedsInCaseman",
+        "caseDismissed",
+        "caseDismissedAfterClaimAcknowledged",
+        "applicantOutOfTime",
+        "failToNotifyClaim",
+        "pastClaimDetailsNotificationDeadline"
+    })
+    public String predicate;
+
+    private Predicate<CaseData> flowPredicate;
+    private CaseData[] cases;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws ReflectiveOperationException {
+        flowPredicate = (Predicate<CaseData>) FlowPredicate.class.getField(predicate).get(null);
+        cases = Arrays.stream(FlowState.Main.values())
+            .map(flowState -> CaseDataBuilder.builder().atState(flowState).build())
+            .toArray(CaseData[]::new);
+    }
+
+    @Benchmark
+    public void test(Blackhole blackhole) {
+        for (CaseData caseData : cases) {
+            blackhole.consume(flowPredicate.test(caseData));
+        }
+    }
+}
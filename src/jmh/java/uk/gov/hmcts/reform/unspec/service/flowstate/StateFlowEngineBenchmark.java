@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.unspec.service.flowstate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDetailsBuilder;
+import uk.gov.hmcts.reform.unspec.stateflow.StateFlow;
+import uk.gov.hmcts.reform.unspec.stateflow.StateFlowEvaluationMode;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StateFlowEngineBenchmark {
+
+    // All constants of the enum are benchmarked when no values are given
+    @Param
+    public FlowState.Main flowState;
+
+    private StateFlowEngine stateFlowEngine;
+    private FlowStateAllowedEventService flowStateAllowedEventService;
+    private CaseData caseData;
+    private CaseDetails caseDetails;
+
+    @Setup
+    public void setUp() {
+        CaseDetailsConverter caseDetailsConverter = new CaseDetailsConverter(
+            Jackson2ObjectMapperBuilder.json().build()
+        );
+        stateFlowEngine = new StateFlowEngine(caseDetailsConverter, StateFlowEvaluationMode.COMPILED);
+        flowStateAllowedEventService = new FlowStateAllowedEventService(stateFlowEngine);
+        caseData = CaseDataBuilder.builder().atState(flowState).build();
+        caseDetails = CaseDetailsBuilder.builder().data(caseData).build();
+    }
+
+    @Benchmark
+    public StateFlow build() {
+        return stateFlowEngine.build();
+    }
+
+    @Benchmark
+    public StateFlow evaluateWithStateMachine() {
+        return stateFlowEngine.build().evaluate(caseData);
+    }
+
+    @Benchmark
+    public StateFlow evaluate() {
+        return stateFlowEngine.evaluate(caseData);
+    }
+
+    @Benchmark
+    public boolean isAllowed() {
+        return flowStateAllowedEventService.isAllowed(caseDetails, CaseEvent.WITHDRAW_CLAIM);
+    }
+}
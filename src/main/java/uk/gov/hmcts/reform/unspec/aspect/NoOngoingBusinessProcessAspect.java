@@ -9,7 +9,6 @@ import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
-import uk.gov.hmcts.reform.unspec.model.CaseData;
 
 import java.util.List;
 
@@ -31,16 +30,15 @@ public class NoOngoingBusinessProcessAspect {
         CallbackParams callbackParams
     ) throws Throwable {
         CaseEvent caseEvent = CaseEvent.valueOf(callbackParams.getRequest().getEventId());
-        CaseData caseData = callbackParams.getCaseData();
         if (callbackParams.getType() == SUBMITTED
             || caseEvent.isCamundaEvent()
-            || caseData.hasNoOngoingBusinessProcess()) {
+            || callbackParams.getCaseData().hasNoOngoingBusinessProcess()) {
             return joinPoint.proceed();
         }
         log.info(format(
             "%s is not allowed on the case %s due to ongoing business process",
             caseEvent.name(),
-            caseData.getCcdCaseReference()
+            callbackParams.getCaseData().getCcdCaseReference()
         ));
         return AboutToStartOrSubmitCallbackResponse.builder()
             .errors(List.of(ERROR_MESSAGE))
@@ -8,7 +8,6 @@ import uk.gov.hmcts.reform.unspec.aspect.EventAllowed;
 import uk.gov.hmcts.reform.unspec.aspect.EventEmitter;
 import uk.gov.hmcts.reform.unspec.aspect.NoOngoingBusinessProcess;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
-import uk.gov.hmcts.reform.unspec.model.CaseData;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -41,8 +40,7 @@ public class CallbackHandlerFactory {
 
     private CallbackResponse processEvent(CallbackHandler handler, CallbackParams callbackParams, String eventId) {
         return Optional.ofNullable(callbackParams.getRequest().getCaseDetailsBefore())
-            .map(caseDetailsConverter::toCaseData)
-            .map(CaseData::getBusinessProcess)
+            .map(caseDetailsConverter::toBusinessProcess)
             .map(handler::isEventAlreadyProcessed)
             .filter(isProcessed -> isProcessed)
             .map(isProcessed -> eventAlreadyProcessedResponse(eventId))
@@ -1,11 +1,13 @@
 package uk.gov.hmcts.reform.unspec.callback;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 @Builder(toBuilder = true)
 @Getter
@@ -17,6 +19,19 @@ public class CallbackParams {
     private CallbackVersion version;
     private String pageId;
     private CaseData caseData;
+    @Getter(AccessLevel.NONE)
+    private Supplier<CaseData> caseDataSupplier;
+
+    /**
+     * Returns the case data, converting it on first access when it was supplied lazily so that callbacks which
+     * never read it do not pay for the conversion.
+     */
+    public CaseData getCaseData() {
+        if (caseData == null && caseDataSupplier != null) {
+            caseData = caseDataSupplier.get();
+        }
+        return caseData;
+    }
 
     public enum Params {
         BEARER_TOKEN
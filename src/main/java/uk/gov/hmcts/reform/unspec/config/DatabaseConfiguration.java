@@ -10,6 +10,7 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import uk.gov.hmcts.reform.unspec.repositories.GeneratedDocumentRepository;
 import uk.gov.hmcts.reform.unspec.repositories.ReferenceNumberRepository;
 
 import javax.sql.DataSource;
@@ -46,4 +47,9 @@ public class DatabaseConfiguration {
     public ReferenceNumberRepository referenceNumberRepository(Jdbi dbi) {
         return dbi.onDemand(ReferenceNumberRepository.class);
     }
+
+    @Bean
+    public GeneratedDocumentRepository generatedDocumentRepository(Jdbi dbi) {
+        return dbi.onDemand(GeneratedDocumentRepository.class);
+    }
 }
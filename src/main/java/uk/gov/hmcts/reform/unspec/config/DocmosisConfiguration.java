@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.unspec.config;
 import lombok.Data;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
 @Data
 @Configuration
@@ -10,10 +11,16 @@ public class DocmosisConfiguration {
 
     private final String url;
     private final String accessKey;
+    private final DataSize spoolThreshold;
 
     public DocmosisConfiguration(@Value("${docmosis.tornado.url}") String url,
-                                 @Value("${docmosis.tornado.key}") String accessKey) {
+                                 @Value("${docmosis.tornado.key}") String accessKey,
+                                 @Value("${docmosis.tornado.spool-threshold:1MB}") DataSize spoolThreshold) {
         this.url = url;
         this.accessKey = accessKey;
+        if (spoolThreshold.isNegative() || spoolThreshold.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("docmosis.tornado.spool-threshold must be between 0 and 2GB");
+        }
+        this.spoolThreshold = spoolThreshold;
     }
 }
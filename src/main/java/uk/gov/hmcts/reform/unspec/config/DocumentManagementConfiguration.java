@@ -10,9 +10,12 @@ import java.util.List;
 @Configuration
 public class DocumentManagementConfiguration {
 
+    private final String url;
     private final List<String> userRoles;
 
-    public DocumentManagementConfiguration(@Value("${document_management.userRoles}") List<String> userRoles) {
+    public DocumentManagementConfiguration(@Value("${document_management.url}") String url,
+                                           @Value("${document_management.userRoles}") List<String> userRoles) {
+        this.url = url;
         this.userRoles = userRoles;
     }
 }
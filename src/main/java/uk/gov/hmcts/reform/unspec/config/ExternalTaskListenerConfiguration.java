@@ -6,10 +6,14 @@ import org.camunda.bpm.client.interceptor.ClientRequestContext;
 import org.camunda.bpm.client.interceptor.ClientRequestInterceptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import uk.gov.hmcts.reform.authorisation.filters.ServiceAuthFilter;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.unspec.config.properties.camunda.ExternalTaskProperties;
+import uk.gov.hmcts.reform.unspec.config.properties.camunda.ExternalTaskProperties.TopicProperties;
+import uk.gov.hmcts.reform.unspec.service.tasklisteners.ExternalTaskWorkers;
 
 @Configuration
 public class ExternalTaskListenerConfiguration {
@@ -25,11 +29,29 @@ public class ExternalTaskListenerConfiguration {
     }
 
     @Bean
-    public ExternalTaskClient client() {
+    @ConfigurationProperties(prefix = "external-task")
+    public ExternalTaskProperties externalTaskProperties() {
+        return new ExternalTaskProperties();
+    }
+
+    @Bean
+    public ExternalTaskClient client(ExternalTaskProperties externalTaskProperties) {
+        return createClient(externalTaskProperties.getDefaults());
+    }
+
+    @Bean
+    public ExternalTaskWorkers externalTaskWorkers(ExternalTaskClient client,
+                                                   ExternalTaskProperties externalTaskProperties) {
+        return new ExternalTaskWorkers(client, externalTaskProperties, this::createClient);
+    }
+
+    private ExternalTaskClient createClient(TopicProperties topicProperties) {
         return ExternalTaskClient.create()
             .addInterceptor(new ServiceAuthProvider())
             .asyncResponseTimeout(29000)
             .backoffStrategy(new ExponentialBackoffStrategy(0, 0, 0))
+            .maxTasks(topicProperties.getMaxTasks())
+            .lockDuration(topicProperties.getLockDuration())
             .baseUrl(baseUrl)
             .build();
     }
@@ -2,42 +2,158 @@ package uk.gov.hmcts.reform.unspec.config;
 
 import feign.Client;
 import feign.httpclient.ApacheHttpClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.httpcomponents.MicrometerHttpRequestExecutor;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.HttpHost;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.reform.unspec.config.properties.http.HttpClientProperties;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class HttpClientConfiguration {
 
+    private static final String HTTPS = "https";
+
+    private final Map<String, PoolingHttpClientConnectionManager> connectionManagers = new ConcurrentHashMap<>();
+
+    @Bean
+    @ConfigurationProperties(prefix = "http.client.feign")
+    public HttpClientProperties feignHttpClientProperties() {
+        return new HttpClientProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "http.client.docmosis")
+    public HttpClientProperties docmosisHttpClientProperties() {
+        return new HttpClientProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "http.client.document-management")
+    public HttpClientProperties documentManagementHttpClientProperties() {
+        return new HttpClientProperties();
+    }
+
+    @Bean
+    public Client getFeignHttpClient(
+        @Qualifier("feignHttpClientProperties") HttpClientProperties feignHttpClientProperties,
+        MeterRegistry meterRegistry
+    ) {
+        return new ApacheHttpClient(getHttpClient("feign", feignHttpClientProperties, meterRegistry));
+    }
+
     @Bean
-    public Client getFeignHttpClient() {
-        return new ApacheHttpClient(getHttpClient());
+    @Primary
+    public RestTemplate restTemplate(
+        @Qualifier("docmosisHttpClientProperties") HttpClientProperties docmosisHttpClientProperties,
+        MeterRegistry meterRegistry
+    ) {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory(
+            getHttpClient("docmosis", docmosisHttpClientProperties, meterRegistry)
+        ));
+        return restTemplate;
     }
 
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate documentManagementRestTemplate(
+        @Qualifier("documentManagementHttpClientProperties") HttpClientProperties documentManagementProperties,
+        MeterRegistry meterRegistry
+    ) {
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(
+            getHttpClient("document-management", documentManagementProperties, meterRegistry)
+        );
+        // Uploads are written straight to the connection rather than copied into a buffer first
+        requestFactory.setBufferRequestBody(false);
+
         RestTemplate restTemplate = new RestTemplate();
-        restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory(getHttpClient()));
+        restTemplate.setRequestFactory(requestFactory);
         return restTemplate;
     }
 
-    private CloseableHttpClient getHttpClient() {
-        int timeout = 10000;
+    private CloseableHttpClient getHttpClient(String name, HttpClientProperties properties,
+                                              MeterRegistry meterRegistry) {
         RequestConfig config = RequestConfig.custom()
-            .setConnectTimeout(timeout)
-            .setConnectionRequestTimeout(timeout)
-            .setSocketTimeout(timeout)
+            .setConnectTimeout(properties.getConnectTimeout())
+            .setConnectionRequestTimeout(properties.getConnectionRequestTimeout())
+            .setSocketTimeout(properties.getSocketTimeout())
             .build();
 
         return HttpClientBuilder
             .create()
             .useSystemProperties()
+            .setConnectionManager(getConnectionManager(name, properties, meterRegistry))
+            .setKeepAliveStrategy(getKeepAliveStrategy(properties.getKeepAlive()))
+            .evictExpiredConnections()
+            .evictIdleConnections(properties.getIdleEviction(), TimeUnit.MILLISECONDS)
+            .setRequestExecutor(MicrometerHttpRequestExecutor.builder(meterRegistry)
+                                    .tags(Tags.of("client", name))
+                                    .build())
             .setDefaultRequestConfig(config)
             .build();
     }
 
+    private PoolingHttpClientConnectionManager getConnectionManager(String name, HttpClientProperties properties,
+                                                                    MeterRegistry meterRegistry) {
+        // Same socket factories useSystemProperties() would give the default connection manager
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+            RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register(HTTPS, SSLConnectionSocketFactory.getSystemSocketFactory())
+                .build()
+        );
+        connectionManager.setMaxTotal(properties.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(properties.getMaxPerRoute());
+        connectionManager.setValidateAfterInactivity(properties.getValidateAfterInactivity());
+        properties.getMaxPerDownstream().forEach((url, max) -> connectionManager.setMaxPerRoute(toRoute(url), max));
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+        connectionManagers.put(name, connectionManager);
+        return connectionManager;
+    }
+
+    /**
+     * Returns the connection manager of the named client, e.g. feign, docmosis or document-management.
+     */
+    PoolingHttpClientConnectionManager connectionManager(String name) {
+        return connectionManagers.get(name);
+    }
+
+    private ConnectionKeepAliveStrategy getKeepAliveStrategy(long defaultKeepAlive) {
+        // Servers that don't send a Keep-Alive timeout would otherwise have their connections kept forever
+        return (response, context) -> {
+            long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return keepAlive > 0 ? keepAlive : defaultKeepAlive;
+        };
+    }
+
+    private HttpRoute toRoute(String url) {
+        URI uri = URI.create(url);
+        boolean secure = HTTPS.equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() > 0 ? uri.getPort() : (secure ? 443 : 80);
+        return new HttpRoute(new HttpHost(uri.getHost(), port, uri.getScheme()), null, secure);
+    }
 }
@@ -3,8 +3,11 @@ package uk.gov.hmcts.reform.unspec.config;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.unspec.repositories.GeneratedDocumentRepository;
 import uk.gov.hmcts.reform.unspec.repositories.ReferenceNumberRepository;
 
+import java.util.Optional;
+
 @Configuration
 @ConditionalOnProperty(value = "reference.database.enabled", havingValue = "false")
 public class MockDatabaseConfiguration {
@@ -13,4 +16,19 @@ public class MockDatabaseConfiguration {
     public ReferenceNumberRepository referenceNumberRepository() {
         return () -> "000LR001";
     }
+
+    @Bean
+    public GeneratedDocumentRepository generatedDocumentRepository() {
+        return new GeneratedDocumentRepository() {
+            @Override
+            public Optional<String> findCaseDocument(Long caseReference, String template, String templateDataHash) {
+                return Optional.empty();
+            }
+
+            @Override
+            public void save(Long caseReference, String template, String templateDataHash, String caseDocument) {
+                // Nothing is stored without a database, so every generation renders the document
+            }
+        };
+    }
 }
@@ -31,6 +31,13 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
         "caseworker"
     };
 
+    private static final String ADMIN_AUTHORITY = "caseworker-civil-admin";
+
+    private static final String[] ADMIN_ENDPOINTS = {
+        "/organisations",
+        "/organisations/**"
+    };
+
     private static final String[] AUTH_WHITELIST = {
         // -- swagger ui
         "/v2/api-docs",
@@ -77,6 +84,8 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
             .antMatchers(AUTH_WHITELIST).permitAll()
             .antMatchers("/cases/callbacks/**")
             .hasAnyAuthority(AUTHORITIES)
+            .antMatchers(ADMIN_ENDPOINTS)
+            .hasAuthority(ADMIN_AUTHORITY)
             .anyRequest()
             .authenticated()
             .and()
@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.unspec.config.properties.camunda;
+
+import lombok.Data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fetch and worker settings of the Camunda external task clients, durations are in milliseconds.
+ */
+@Data
+public class ExternalTaskProperties {
+
+    // Used by the shared client, which fetches every topic that is not listed in topics
+    private TopicProperties defaults = new TopicProperties();
+    // Topics fetched by their own client and handled by their own pool of workers, keyed by topic name
+    private Map<String, TopicProperties> topics = new HashMap<>();
+
+    @Data
+    public static class TopicProperties {
+
+        // Topics with their own client cannot fetch more tasks than they have workers
+        private int maxTasks = 1;
+        private long lockDuration = 20000;
+        private int concurrency = 1;
+    }
+}
@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.unspec.config.properties.http;
+
+import lombok.Data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Connection pool and timeout settings of an Apache HTTP client, all durations are in milliseconds.
+ */
+@Data
+public class HttpClientProperties {
+
+    private int maxTotal = 200;
+    private int maxPerRoute = 50;
+    // Overrides of maxPerRoute keyed by downstream base url, e.g. http://ccd-data-store-api:4452
+    private Map<String, Integer> maxPerDownstream = new HashMap<>();
+    private int connectTimeout = 10000;
+    private int connectionRequestTimeout = 10000;
+    private int socketTimeout = 10000;
+    private long keepAlive = 30000;
+    private long idleEviction = 30000;
+    private int validateAfterInactivity = 2000;
+}
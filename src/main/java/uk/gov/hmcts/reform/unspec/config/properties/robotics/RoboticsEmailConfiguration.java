@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Data
 @Configuration
 @ConfigurationProperties(prefix = "robotics.notification")
@@ -11,4 +13,14 @@ public class RoboticsEmailConfiguration {
 
     private String sender;
     private String recipient;
+    private Batch batch = new Batch();
+
+    @Data
+    public static class Batch {
+
+        private boolean enabled;
+        // Callers wait for their batch to be sent, so this has to stay well within the CCD callback timeout
+        private Duration window = Duration.ofSeconds(2);
+        private int maxSize = 20;
+    }
 }
@@ -20,6 +20,7 @@ import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CallbackType;
 import uk.gov.hmcts.reform.unspec.callback.CallbackVersion;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.unspec.service.flowstate.StateFlowMemo;
 
 import java.util.Optional;
 import javax.validation.constraints.NotNull;
@@ -61,9 +62,9 @@ public class CallbackController {
             .params(ImmutableMap.of(CallbackParams.Params.BEARER_TOKEN, authorisation))
             .version(version.orElse(null))
             .pageId(pageId.orElse(null))
-            .caseData(caseDetailsConverter.toCaseData(callback.getCaseDetails()))
+            .caseDataSupplier(() -> caseDetailsConverter.toCaseData(callback.getCaseDetails()))
             .build();
 
-        return callbackHandlerFactory.dispatch(callbackParams);
+        return StateFlowMemo.within(() -> callbackHandlerFactory.dispatch(callbackParams));
     }
 }
@@ -0,0 +1,36 @@
+package uk.gov.hmcts.reform.unspec.controllers;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.unspec.service.OrganisationService;
+
+/**
+ * Lets an administrator drop cached PRD organisations, e.g. after an organisation's details were corrected.
+ *
+ * <p>evictAll drops every cached organisation, on DELETE /organisations, and evict a single one, on
+ * DELETE /organisations/{organisationId}. Both are restricted to caseworker-civil-admin users.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "organisations")
+public class OrganisationCacheEndpoint {
+
+    private final OrganisationService organisationService;
+
+    @DeleteOperation
+    public void evictAll() {
+        organisationService.evictAll();
+        log.info("Evicted all cached organisations");
+    }
+
+    @DeleteOperation
+    public void evict(@Selector String organisationId) {
+        organisationService.evictOrganisation(organisationId);
+        log.info("Evicted cached organisation {}", organisationId);
+    }
+}
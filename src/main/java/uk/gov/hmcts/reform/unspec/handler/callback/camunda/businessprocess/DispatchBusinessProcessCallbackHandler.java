@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.camunda.businessprocess;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
@@ -9,6 +8,8 @@ import uk.gov.hmcts.reform.unspec.callback.Callback;
 import uk.gov.hmcts.reform.unspec.callback.CallbackHandler;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataDeltaMapper;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 
@@ -29,7 +30,8 @@ public class DispatchBusinessProcessCallbackHandler extends CallbackHandler {
 
     private static final List<CaseEvent> EVENTS = Collections.singletonList(DISPATCH_BUSINESS_PROCESS);
 
-    private final ObjectMapper objectMapper;
+    private final CaseDataDeltaMapper caseDataDeltaMapper;
+    private final CaseDetailsConverter caseDetailsConverter;
 
     @Override
     protected Map<String, Callback> callbacks() {
@@ -45,10 +47,12 @@ public class DispatchBusinessProcessCallbackHandler extends CallbackHandler {
     }
 
     private CallbackResponse checkIfBusinessProcessStarted(CallbackParams callbackParams) {
-        CaseData caseData = callbackParams.getCaseData();
+        BusinessProcess businessProcess = caseDetailsConverter.toBusinessProcess(
+            callbackParams.getRequest().getCaseDetails()
+        );
         List<String> errors = new ArrayList<>();
 
-        if (caseData.getBusinessProcess().getStatusOrDefault() != READY) {
+        if (businessProcess.getStatusOrDefault() != READY) {
             errors.add("Business process already started");
         }
 
@@ -70,7 +74,7 @@ public class DispatchBusinessProcessCallbackHandler extends CallbackHandler {
         }
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseDataBuilder.build().toMap(objectMapper))
+            .data(caseDataDeltaMapper.toMap(callbackParams, caseDataBuilder.build()))
             .build();
     }
 }
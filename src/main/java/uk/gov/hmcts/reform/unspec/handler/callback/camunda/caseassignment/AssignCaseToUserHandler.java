@@ -9,9 +9,9 @@ import uk.gov.hmcts.reform.unspec.callback.Callback;
 import uk.gov.hmcts.reform.unspec.callback.CallbackHandler;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
-import uk.gov.hmcts.reform.unspec.enums.CaseRole;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.model.CaseRoleAssignment;
 import uk.gov.hmcts.reform.unspec.model.IdamUserDetails;
 import uk.gov.hmcts.reform.unspec.service.CoreCaseUserService;
 
@@ -20,6 +20,8 @@ import java.util.Map;
 
 import static uk.gov.hmcts.reform.unspec.callback.CallbackType.ABOUT_TO_SUBMIT;
 import static uk.gov.hmcts.reform.unspec.callback.CaseEvent.ASSIGN_CASE_TO_APPLICANT_SOLICITOR1;
+import static uk.gov.hmcts.reform.unspec.enums.CaseRole.APPLICANTSOLICITORONE;
+import static uk.gov.hmcts.reform.unspec.enums.CaseRole.CREATOR;
 
 @Service
 @RequiredArgsConstructor
@@ -56,8 +58,10 @@ public class AssignCaseToUserHandler extends CallbackHandler {
         String submitterId = userDetails.getId();
         String organisationId = caseData.getApplicant1OrganisationPolicy().getOrganisation().getOrganisationID();
 
-        coreCaseUserService.assignCase(caseId, submitterId, organisationId, CaseRole.APPLICANTSOLICITORONE);
-        coreCaseUserService.removeCreatorRoleCaseAssignment(caseId, submitterId, organisationId);
+        coreCaseUserService.reconcileCaseRoles(
+            List.of(new CaseRoleAssignment(caseId, submitterId, organisationId, APPLICANTSOLICITORONE)),
+            List.of(new CaseRoleAssignment(caseId, submitterId, organisationId, CREATOR))
+        );
 
         CaseData updated = caseData.toBuilder()
             .applicantSolicitor1UserDetails(IdamUserDetails.builder().email(userDetails.getEmail()).build())
@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.camunda.docmosis;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
@@ -10,6 +9,7 @@ import uk.gov.hmcts.reform.unspec.callback.CallbackHandler;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
 import uk.gov.hmcts.reform.unspec.enums.CaseState;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataDeltaMapper;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.model.documents.CaseDocument;
 import uk.gov.hmcts.reform.unspec.service.DeadlinesCalculator;
@@ -38,7 +38,7 @@ public class GenerateClaimFormCallbackHandler extends CallbackHandler {
     private static final List<CaseEvent> EVENTS = Collections.singletonList(GENERATE_CLAIM_FORM);
 
     private final SealedClaimFormGenerator sealedClaimFormGenerator;
-    private final ObjectMapper objectMapper;
+    private final CaseDataDeltaMapper caseDataDeltaMapper;
     private final StateFlowEngine stateFlowEngine;
     private final DeadlinesCalculator deadlinesCalculator;
     private final Time time;
@@ -74,7 +74,7 @@ public class GenerateClaimFormCallbackHandler extends CallbackHandler {
         }
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseDataBuilder.build().toMap(objectMapper))
+            .data(caseDataDeltaMapper.toMap(callbackParams, caseDataBuilder.build()))
             .state(String.valueOf(state))
             .build();
     }
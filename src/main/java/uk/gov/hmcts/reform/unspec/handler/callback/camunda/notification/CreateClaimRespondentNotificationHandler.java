@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.camunda.notification;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
@@ -10,6 +9,7 @@ import uk.gov.hmcts.reform.unspec.callback.CallbackHandler;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
 import uk.gov.hmcts.reform.unspec.config.properties.notification.NotificationsProperties;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataDeltaMapper;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.service.NotificationService;
 
@@ -32,7 +32,7 @@ public class CreateClaimRespondentNotificationHandler extends CallbackHandler im
 
     private final NotificationService notificationService;
     private final NotificationsProperties notificationsProperties;
-    private final ObjectMapper objectMapper;
+    private final CaseDataDeltaMapper caseDataDeltaMapper;
 
     @Override
     protected Map<String, Callback> callbacks() {
@@ -62,7 +62,7 @@ public class CreateClaimRespondentNotificationHandler extends CallbackHandler im
         );
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseData.toMap(objectMapper))
+            .data(caseDataDeltaMapper.toMap(callbackParams, caseData))
             .build();
     }
 
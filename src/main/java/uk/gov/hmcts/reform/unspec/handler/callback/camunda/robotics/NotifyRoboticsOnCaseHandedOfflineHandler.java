@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.camunda.robotics;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.networknt.schema.ValidationMessage;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,7 @@ import uk.gov.hmcts.reform.unspec.callback.Callback;
 import uk.gov.hmcts.reform.unspec.callback.CallbackHandler;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataDeltaMapper;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.model.robotics.RoboticsCaseData;
 import uk.gov.hmcts.reform.unspec.service.Time;
@@ -41,7 +43,8 @@ public class NotifyRoboticsOnCaseHandedOfflineHandler extends CallbackHandler {
     private final JsonSchemaValidationService jsonSchemaValidationService;
     private final RoboticsDataMapper roboticsDataMapper;
     private final Time time;
-    private final ObjectMapper mapper;
+    private final CaseDataDeltaMapper caseDataDeltaMapper;
+    private final ObjectMapper objectMapper;
 
     @Override
     protected Map<String, Callback> callbacks() {
@@ -63,23 +66,29 @@ public class NotifyRoboticsOnCaseHandedOfflineHandler extends CallbackHandler {
     private CallbackResponse notifyRoboticsForCaseHandedOffline(CallbackParams callbackParams) {
         CaseData caseData = callbackParams.getCaseData();
 
+        // Mapped and serialised once, the bytes sent are those of the tree that was validated
+        RoboticsCaseData roboticsCaseData = roboticsDataMapper.toRoboticsCaseData(caseData);
+        JsonNode roboticsJson = objectMapper.valueToTree(roboticsCaseData);
+        Set<ValidationMessage> errors = jsonSchemaValidationService.validate(roboticsJson);
+        if (errors.isEmpty()) {
+            roboticsNotificationService.notifyRobotics(caseData.getLegacyCaseReference(), toBytes(roboticsJson));
+            caseData = caseData.toBuilder().takenOfflineDate(time.now()).build();
+        } else {
+            throw new JsonSchemaValidationException(
+                format("Invalid RPA Json payload for %s", caseData.getLegacyCaseReference()),
+                errors
+            );
+        }
+        return AboutToStartOrSubmitCallbackResponse.builder()
+            .data(caseDataDeltaMapper.toMap(callbackParams, caseData))
+            .build();
+    }
+
+    private byte[] toBytes(JsonNode roboticsJson) {
         try {
-            RoboticsCaseData roboticsCaseData = roboticsDataMapper.toRoboticsCaseData(caseData);
-            Set<ValidationMessage> errors = jsonSchemaValidationService.validate(roboticsCaseData.toJsonString());
-            if (errors.isEmpty()) {
-                roboticsNotificationService.notifyRobotics(caseData);
-                caseData = caseData.toBuilder().takenOfflineDate(time.now()).build();
-            } else {
-                throw new JsonSchemaValidationException(
-                    format("Invalid RPA Json payload for %s", caseData.getLegacyCaseReference()),
-                    errors
-                );
-            }
+            return objectMapper.writeValueAsBytes(roboticsJson);
         } catch (JsonProcessingException e) {
             throw new RoboticsDataException(e.getMessage(), e);
         }
-        return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseData.toMap(mapper))
-            .build();
     }
 }
@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.camunda.robotics;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
@@ -10,6 +9,7 @@ import uk.gov.hmcts.reform.unspec.callback.Callback;
 import uk.gov.hmcts.reform.unspec.callback.CallbackHandler;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataDeltaMapper;
 import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 
@@ -28,7 +28,7 @@ public class ResetRpaNotificationBusinessProcessHandler extends CallbackHandler
     private static final List<CaseEvent> EVENTS = List.of(RESET_RPA_NOTIFICATION_BUSINESS_PROCESS);
     public static final String TASK_ID = "ResetRpaNotificationBusinessProcess";
 
-    private final ObjectMapper objectMapper;
+    private final CaseDataDeltaMapper caseDataDeltaMapper;
 
     @Override
     protected Map<String, Callback> callbacks() {
@@ -53,7 +53,7 @@ public class ResetRpaNotificationBusinessProcessHandler extends CallbackHandler
             .businessProcess(BusinessProcess.ready(RETRY_NOTIFY_RPA_ON_CASE_HANDED_OFFLINE))
             .build();
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseDataUpdated.toMap(objectMapper))
+            .data(caseDataDeltaMapper.toMap(callbackParams, caseDataUpdated))
             .build();
     }
 }
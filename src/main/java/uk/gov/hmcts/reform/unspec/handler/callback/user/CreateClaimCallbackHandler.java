@@ -25,6 +25,7 @@ import uk.gov.hmcts.reform.unspec.model.Party;
 import uk.gov.hmcts.reform.unspec.model.SolicitorReferences;
 import uk.gov.hmcts.reform.unspec.model.common.DynamicList;
 import uk.gov.hmcts.reform.unspec.repositories.ReferenceNumberRepository;
+import uk.gov.hmcts.reform.unspec.service.DownstreamCallExecutor;
 import uk.gov.hmcts.reform.unspec.service.FeesService;
 import uk.gov.hmcts.reform.unspec.service.OrganisationService;
 import uk.gov.hmcts.reform.unspec.service.Time;
@@ -84,6 +85,7 @@ public class CreateClaimCallbackHandler extends CallbackHandler implements Parti
     private final OnBoardingOrganisationControlService onboardingOrganisationControlService;
     private final ObjectMapper objectMapper;
     private final Time time;
+    private final DownstreamCallExecutor downstreamCallExecutor;
 
     @Override
     protected Map<String, Callback> callbacks() {
@@ -151,10 +153,11 @@ public class CreateClaimCallbackHandler extends CallbackHandler implements Parti
             .orElse(references.map(SolicitorReferences::getApplicantSolicitor1Reference).orElse(""));
 
         String authToken = callbackParams.getParams().get(BEARER_TOKEN).toString();
+        var claimFee = downstreamCallExecutor.start(() -> feesService.getFeeDataByClaimValue(caseData.getClaimValue()));
         List<String> pbaNumbers = getPbaAccounts(authToken);
 
         CaseData.CaseDataBuilder caseDataBuilder = caseData.toBuilder()
-            .claimFee(feesService.getFeeDataByClaimValue(caseData.getClaimValue()))
+            .claimFee(claimFee.join())
             .applicantSolicitor1PbaAccounts(DynamicList.fromList(pbaNumbers))
             .applicantSolicitor1PbaAccountsIsEmpty(pbaNumbers.isEmpty() ? YES : NO)
             .paymentReference(paymentReference);
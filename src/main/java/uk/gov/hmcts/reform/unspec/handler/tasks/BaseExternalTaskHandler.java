@@ -7,6 +7,7 @@ import org.camunda.bpm.engine.delegate.BpmnError;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import uk.gov.hmcts.reform.unspec.service.flowstate.StateFlowMemo;
 
 import java.util.Arrays;
 
@@ -32,8 +33,8 @@ public interface BaseExternalTaskHandler extends ExternalTaskHandler {
 
         try {
             log.info("External task '{}' started", topicName);
-            handleTask(externalTask);
-            completeTask(externalTask, externalTaskService);
+            VariableMap variables = StateFlowMemo.within(() -> handleTask(externalTask));
+            completeTask(externalTask, externalTaskService, variables);
         } catch (BpmnError e) {
             externalTaskService.handleBpmnError(externalTask, e.getErrorCode());
             log.error("Bpmn error for external task '{}'", topicName, e);
@@ -43,11 +44,12 @@ public interface BaseExternalTaskHandler extends ExternalTaskHandler {
         }
     }
 
-    private void completeTask(ExternalTask externalTask, ExternalTaskService externalTaskService) {
+    private void completeTask(ExternalTask externalTask, ExternalTaskService externalTaskService,
+                              VariableMap variables) {
         String topicName = externalTask.getTopicName();
 
         try {
-            ofNullable(getVariableMap()).ifPresentOrElse(
+            ofNullable(variables).ifPresentOrElse(
                 variableMap -> externalTaskService.complete(externalTask, variableMap),
                 () -> externalTaskService.complete(externalTask)
             );
@@ -87,19 +89,11 @@ public interface BaseExternalTaskHandler extends ExternalTaskHandler {
     }
 
     /**
-     * Defines a Map of variables to be added to an external task on completion.
-     * By default this is null, override to add values.
-     *
-     * @return the variables to add to the external task.
-     */
-    default VariableMap getVariableMap() {
-        return null;
-    }
-
-    /**
-     * Executed for each fetched and locked task.
+     * Executed for each fetched and locked task. Handlers are shared by all the tasks of a topic, which may be
+     * handled concurrently, so anything a task needs on completion is returned rather than kept in fields.
      *
      * @param externalTask the external task to be handled.
+     * @return the variables to add to the external task on completion, or null when there are none.
      */
-    void handleTask(ExternalTask externalTask);
+    VariableMap handleTask(ExternalTask externalTask);
 }
@@ -29,10 +29,8 @@ public class CaseEventTaskHandler implements BaseExternalTaskHandler {
 
     private static final String FLOW_STATE = "flowState";
 
-    private CaseData data;
-
     @Override
-    public void handleTask(ExternalTask externalTask) {
+    public VariableMap handleTask(ExternalTask externalTask) {
         ExternalTaskInput variables = mapper.convertValue(externalTask.getAllVariables(), ExternalTaskInput.class);
         String caseId = variables.getCaseId();
         StartEventResponse startEventResponse = coreCaseDataService.startUpdate(caseId, variables.getCaseEvent());
@@ -40,11 +38,11 @@ public class CaseEventTaskHandler implements BaseExternalTaskHandler {
         BusinessProcess businessProcess = startEventData.getBusinessProcess()
             .updateActivityId(externalTask.getActivityId());
 
-        data = coreCaseDataService.submitUpdate(caseId, caseDataContent(startEventResponse, businessProcess));
+        CaseData data = coreCaseDataService.submitUpdate(caseId, caseDataContent(startEventResponse, businessProcess));
+        return flowStateVariables(data);
     }
 
-    @Override
-    public VariableMap getVariableMap() {
+    private VariableMap flowStateVariables(CaseData data) {
         VariableMap variables = Variables.createVariables();
         variables.putValue(FLOW_STATE, stateFlowEngine.evaluate(data).getState().getName());
         return variables;
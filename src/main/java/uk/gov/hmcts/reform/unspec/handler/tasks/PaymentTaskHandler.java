@@ -30,10 +30,8 @@ public class PaymentTaskHandler implements BaseExternalTaskHandler {
     private final ObjectMapper objectMapper;
     private final StateFlowEngine stateFlowEngine;
 
-    private CaseData data;
-
     @Override
-    public void handleTask(ExternalTask externalTask) {
+    public VariableMap handleTask(ExternalTask externalTask) {
         Map<String, Object> allVariables = externalTask.getAllVariables();
         ExternalTaskInput externalTaskInput = objectMapper.convertValue(allVariables, ExternalTaskInput.class);
         String caseId = externalTaskInput.getCaseId();
@@ -41,11 +39,11 @@ public class PaymentTaskHandler implements BaseExternalTaskHandler {
                                                                                 externalTaskInput.getCaseEvent());
         BusinessProcess businessProcess = caseDetailsConverter.toCaseData(startEventResponse.getCaseDetails())
             .getBusinessProcess().updateActivityId(externalTask.getActivityId());
-        data = coreCaseDataService.submitUpdate(caseId, caseDataContent(startEventResponse, businessProcess));
+        CaseData data = coreCaseDataService.submitUpdate(caseId, caseDataContent(startEventResponse, businessProcess));
+        return flowStateVariables(data);
     }
 
-    @Override
-    public VariableMap getVariableMap() {
+    private VariableMap flowStateVariables(CaseData data) {
         VariableMap variables = Variables.createVariables();
         variables.putValue(FLOW_STATE, stateFlowEngine.evaluate(data).getState().getName());
         return variables;
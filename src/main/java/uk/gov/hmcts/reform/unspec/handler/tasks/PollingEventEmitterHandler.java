@@ -3,14 +3,14 @@ package uk.gov.hmcts.reform.unspec.handler.tasks;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.engine.variable.VariableMap;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
-import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.service.EventEmitterService;
 import uk.gov.hmcts.reform.unspec.service.search.CaseReadyBusinessProcessSearchService;
 
-import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -23,12 +23,18 @@ public class PollingEventEmitterHandler implements BaseExternalTaskHandler {
     private final EventEmitterService eventEmitterService;
 
     @Override
-    public void handleTask(ExternalTask externalTask) {
-        List<CaseDetails> cases = caseSearchService.getCases();
-        log.info("Job '{}' found {} case(s)", externalTask.getTopicName(), cases.size());
-        cases.stream()
-            .map(caseDetailsConverter::toCaseData)
-            .forEach(mappedCase -> eventEmitterService.emitBusinessProcessCamundaEvent(mappedCase, true));
+    public VariableMap handleTask(ExternalTask externalTask) {
+        LongAdder cases = new LongAdder();
+        caseSearchService.getCases().forEach(caseDetails -> {
+            eventEmitterService.emitBusinessProcessCamundaEvent(
+                caseDetails.getId(),
+                caseDetailsConverter.toBusinessProcess(caseDetails),
+                true
+            );
+            cases.increment();
+        });
+        log.info("Job '{}' found {} case(s)", externalTask.getTopicName(), cases.sum());
+        return null;
     }
 
     @Override
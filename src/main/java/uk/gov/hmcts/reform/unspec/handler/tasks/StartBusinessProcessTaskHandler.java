@@ -31,17 +31,11 @@ public class StartBusinessProcessTaskHandler implements BaseExternalTaskHandler
     private final ObjectMapper mapper;
     private final StateFlowEngine stateFlowEngine;
 
-    private VariableMap variables;
-
     @Override
-    public void handleTask(ExternalTask externalTask) {
+    public VariableMap handleTask(ExternalTask externalTask) {
         CaseData caseData = startBusinessProcess(externalTask);
-        variables = Variables.createVariables();
+        VariableMap variables = Variables.createVariables();
         variables.putValue(FLOW_STATE, stateFlowEngine.evaluate(caseData).getState().getName());
-    }
-
-    @Override
-    public VariableMap getVariableMap() {
         return variables;
     }
 
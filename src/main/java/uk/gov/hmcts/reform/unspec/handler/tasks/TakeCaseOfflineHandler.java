@@ -1,30 +1,44 @@
 package uk.gov.hmcts.reform.unspec.handler.tasks;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.Variables;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.unspec.event.TakeCaseOfflineEvent;
+import uk.gov.hmcts.reform.unspec.service.BulkEventDispatcher;
 import uk.gov.hmcts.reform.unspec.service.search.TakeCaseOfflineSearchService;
 
-import java.util.List;
-
-@Slf4j
 @RequiredArgsConstructor
 @Component
 public class TakeCaseOfflineHandler implements BaseExternalTaskHandler {
 
+    private static final String TOTAL_CASES = "totalCases";
+    private static final String FAILED_CASES = "failedCases";
+
     private final TakeCaseOfflineSearchService caseSearchService;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final BulkEventDispatcher bulkEventDispatcher;
 
     @Override
-    public void handleTask(ExternalTask externalTask) {
-        List<CaseDetails> cases = caseSearchService.getCases();
-        log.info("Job '{}' found {} case(s)", externalTask.getTopicName(), cases.size());
+    public VariableMap handleTask(ExternalTask externalTask) {
+        BulkEventDispatcher.Summary summary = bulkEventDispatcher.dispatch(
+            externalTask.getTopicName(),
+            caseSearchService.getCases().map(CaseDetails::getId),
+            caseId -> applicationEventPublisher.publishEvent(new TakeCaseOfflineEvent(caseId))
+        );
+        if (summary.isEveryCaseFailed()) {
+            throw new IllegalStateException(String.format("Failed for all %d case(s)", summary.getTotal()));
+        }
+        return summaryVariables(summary);
+    }
 
-        cases.forEach(caseDetails -> applicationEventPublisher.publishEvent(
-            new TakeCaseOfflineEvent(caseDetails.getId())));
+    private VariableMap summaryVariables(BulkEventDispatcher.Summary summary) {
+        VariableMap variables = Variables.createVariables();
+        variables.putValue(TOTAL_CASES, summary.getTotal());
+        variables.putValue(FAILED_CASES, summary.getFailed());
+        return variables;
     }
 }
@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.unspec.helpers;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Builds callback response data by merging only the changed {@link CaseData} properties into the CCD data map
+ * received with the callback, instead of serialising the whole case again.
+ *
+ * <p>Properties are compared with equals, so handlers must replace changed values rather than mutate values
+ * shared with the case data of the callback.
+ */
+@Service
+public class CaseDataDeltaMapper {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader mapReader;
+
+    public CaseDataDeltaMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.mapReader = objectMapper.readerFor(new TypeReference<Map<String, Object>>() {
+        });
+    }
+
+    public Map<String, Object> toMap(CallbackParams callbackParams, CaseData updated) {
+        return toMap(callbackParams.getRequest().getCaseDetails().getData(), callbackParams.getCaseData(), updated);
+    }
+
+    public Map<String, Object> toMap(Map<String, Object> data, CaseData original, CaseData updated) {
+        Map<String, Object> merged = new HashMap<>(data);
+        if (original == updated) {
+            return merged;
+        }
+
+        try {
+            // Serialisers are resolved per call so the inclusion configured on the shared mapper is honoured
+            SerializerProvider provider = objectMapper.getSerializerProviderInstance();
+            JsonSerializer<Object> serializer = provider.findValueSerializer(CaseData.class);
+            Iterator<PropertyWriter> properties = serializer.properties();
+            while (properties.hasNext()) {
+                BeanPropertyWriter property = (BeanPropertyWriter) properties.next();
+                if (!Objects.equals(property.get(original), property.get(updated))) {
+                    merged.keySet().removeAll(serialise(property, original, provider).keySet());
+                    merged.putAll(serialise(property, updated, provider));
+                }
+            }
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+        return merged;
+    }
+
+    // Unwrapped properties write several top level fields, so each property is read back as a map of fields
+    private Map<String, Object> serialise(BeanPropertyWriter property, CaseData caseData, SerializerProvider provider)
+        throws Exception {
+        try (TokenBuffer buffer = new TokenBuffer(objectMapper, false)) {
+            buffer.writeStartObject();
+            property.serializeAsField(caseData, buffer, provider);
+            buffer.writeEndObject();
+            return mapReader.readValue(buffer.asParser());
+        }
+    }
+}
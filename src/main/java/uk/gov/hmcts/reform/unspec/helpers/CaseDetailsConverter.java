@@ -2,34 +2,91 @@ package uk.gov.hmcts.reform.unspec.helpers;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.unspec.enums.CaseState;
+import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 
+import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
 @Service
 public class CaseDetailsConverter {
 
+    private static final String CCD_CASE_REFERENCE = "ccdCaseReference";
+    private static final String CCD_STATE = "ccdState";
+    private static final String BUSINESS_PROCESS = "businessProcess";
+
     private final ObjectMapper objectMapper;
+    private final ObjectReader caseDataReader;
 
     public CaseDetailsConverter(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
         this.objectMapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+        this.caseDataReader = objectMapper.readerFor(CaseData.class);
     }
 
     public CaseData toCaseData(CaseDetails caseDetails) {
-        Map<String, Object> data = new HashMap<>(caseDetails.getData());
-        data.put("ccdCaseReference", caseDetails.getId());
+        Map<String, Object> overrides = new HashMap<>();
+        overrides.put(CCD_CASE_REFERENCE, caseDetails.getId());
         if (caseDetails.getState() != null) {
-            data.put("ccdState", CaseState.valueOf(caseDetails.getState()));
+            overrides.put(CCD_STATE, CaseState.valueOf(caseDetails.getState()));
         }
-        return objectMapper.convertValue(data, CaseData.class);
+        return read(caseDetails.getData(), overrides);
     }
 
     public CaseData toCaseData(Map<String, Object> caseDataMap) {
-        return objectMapper.convertValue(caseDataMap, CaseData.class);
+        return read(caseDataMap, Map.of());
+    }
+
+    /**
+     * Reads only the business process of a case, for callers which do not need the rest of {@link CaseData}.
+     */
+    public BusinessProcess toBusinessProcess(CaseDetails caseDetails) {
+        Object businessProcess = caseDetails.getData().get(BUSINESS_PROCESS);
+        return isEmpty(businessProcess) ? null : objectMapper.convertValue(businessProcess, BusinessProcess.class);
+    }
+
+    /**
+     * Streams the CCD data map into {@link CaseData} through a token buffer, without copying it into an intermediate
+     * map first. Empty top level values are skipped the same way the NON_EMPTY serialisation inclusion does. Nested
+     * values are still serialised into the buffer as convertValue does, so the saving is limited to the top level copy,
+     * see CaseDetailsConverterBenchmark.
+     */
+    private CaseData read(Map<String, Object> data, Map<String, Object> overrides) {
+        try (TokenBuffer buffer = new TokenBuffer(objectMapper, false)) {
+            buffer.writeStartObject();
+            for (Map.Entry<String, Object> entry : data.entrySet()) {
+                if (!overrides.containsKey(entry.getKey())) {
+                    writeField(buffer, entry.getKey(), entry.getValue());
+                }
+            }
+            for (Map.Entry<String, Object> entry : overrides.entrySet()) {
+                writeField(buffer, entry.getKey(), entry.getValue());
+            }
+            buffer.writeEndObject();
+            return caseDataReader.readValue(buffer.asParser());
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    private void writeField(TokenBuffer buffer, String name, Object value) throws IOException {
+        if (!isEmpty(value)) {
+            buffer.writeFieldName(name);
+            buffer.writeObject(value);
+        }
+    }
+
+    private boolean isEmpty(Object value) {
+        return value == null
+            || (value instanceof String && ((String) value).isEmpty())
+            || (value instanceof Collection && ((Collection<?>) value).isEmpty())
+            || (value instanceof Map && ((Map<?, ?>) value).isEmpty());
     }
 }
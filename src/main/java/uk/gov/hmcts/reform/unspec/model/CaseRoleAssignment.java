@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.unspec.model;
+
+import lombok.Value;
+import uk.gov.hmcts.reform.unspec.enums.CaseRole;
+
+@Value
+public class CaseRoleAssignment {
+
+    String caseId;
+    String userId;
+    String organisationId;
+    CaseRole caseRole;
+}
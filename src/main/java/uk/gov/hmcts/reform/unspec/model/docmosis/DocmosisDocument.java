@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.unspec.model.docmosis;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import uk.gov.hmcts.reform.unspec.model.documents.DocumentContent;
 
 @Data
 @Builder(toBuilder = true)
@@ -10,5 +11,5 @@ import lombok.Data;
 public class DocmosisDocument {
 
     private final String documentTitle;
-    private final byte[] bytes;
+    private final DocumentContent content;
 }
@@ -0,0 +1,94 @@
+package uk.gov.hmcts.reform.unspec.model.documents;
+
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.DeferredFileOutputStream;
+import org.springframework.core.io.InputStreamSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+
+/**
+ * Content of a generated document, held in memory when small and spooled to a temporary file otherwise.
+ *
+ * <p>Content can be read any number of times, so an upload can be retried. Closing it deletes the temporary file.
+ */
+@Slf4j
+@EqualsAndHashCode
+public final class DocumentContent implements InputStreamSource, Closeable {
+
+    private final byte[] bytes;
+    private final File file;
+    private final long size;
+
+    private DocumentContent(byte[] bytes, File file, long size) {
+        this.bytes = bytes;
+        this.file = file;
+        this.size = size;
+    }
+
+    public static DocumentContent of(byte[] bytes) {
+        return new DocumentContent(bytes, null, bytes.length);
+    }
+
+    /**
+     * Reads the stream to the end, keeping up to threshold bytes in memory and spooling anything larger to a
+     * temporary file.
+     */
+    public static DocumentContent spool(InputStream inputStream, int threshold) throws IOException {
+        DeferredFileOutputStream outputStream = new DeferredFileOutputStream(threshold, "document-", ".tmp", null);
+        try (outputStream) {
+            IOUtils.copyLarge(inputStream, outputStream);
+        } catch (IOException e) {
+            if (outputStream.getFile() != null) {
+                Files.deleteIfExists(outputStream.getFile().toPath());
+            }
+            throw e;
+        }
+
+        return outputStream.isInMemory()
+            ? new DocumentContent(outputStream.getData(), null, outputStream.getByteCount())
+            : new DocumentContent(null, outputStream.getFile(), outputStream.getByteCount());
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return bytes != null ? new ByteArrayInputStream(bytes) : Files.newInputStream(file.toPath());
+    }
+
+    /**
+     * Returns the content as a byte array, reading it from the temporary file when it was spooled.
+     */
+    public byte[] getBytes() {
+        try {
+            return bytes != null ? bytes : Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public boolean isInMemory() {
+        return bytes != null;
+    }
+
+    @Override
+    public void close() {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file.toPath());
+            } catch (IOException e) {
+                log.warn("Unable to delete spooled document {}", file, e);
+            }
+        }
+    }
+}
@@ -6,6 +6,6 @@ import lombok.Data;
 public class PDF {
 
     private final String fileBaseName;
-    private final byte[] bytes;
+    private final DocumentContent content;
     private final DocumentType documentType;
 }
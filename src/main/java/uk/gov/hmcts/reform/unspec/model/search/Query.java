@@ -9,18 +9,36 @@ import static net.minidev.json.JSONValue.toJSONString;
 
 public class Query {
 
+    public static final String SORT_FIELD = "reference.keyword";
+
     private final QueryBuilder queryBuilder;
     private final List<String> dataToReturn;
-    private final int startIndex;
+    private final int size;
+    private final Long searchAfter;
 
-    public Query(QueryBuilder queryBuilder, List<String> dataToReturn, int startIndex) {
+    private Query(QueryBuilder queryBuilder, List<String> dataToReturn, int size, Long searchAfter) {
         Objects.requireNonNull(queryBuilder, "QueryBuilder cannot be null in search");
-        if (startIndex < 0) {
-            throw new IllegalArgumentException("Start index cannot be less than 0");
+        if (size < 1) {
+            throw new IllegalArgumentException("Size cannot be less than 1");
         }
         this.queryBuilder = queryBuilder;
         this.dataToReturn = dataToReturn;
-        this.startIndex = startIndex;
+        this.size = size;
+        this.searchAfter = searchAfter;
+    }
+
+    /**
+     * Creates a query for a page of up to size cases sorted by case reference, starting after the given case
+     * reference or from the first case when it is null.
+     *
+     * @param queryBuilder the query to match cases with.
+     * @param dataToReturn the case fields to return.
+     * @param size         the maximum number of cases in the page.
+     * @param searchAfter  the reference of the last case of the previous page, null for the first page.
+     * @return the query for the page.
+     */
+    public static Query pageAfter(QueryBuilder queryBuilder, List<String> dataToReturn, int size, Long searchAfter) {
+        return new Query(queryBuilder, dataToReturn, size, searchAfter);
     }
 
     @Override
@@ -28,7 +46,9 @@ public class Query {
         return "{"
             + "\"query\": " + queryBuilder.toString() + ", "
             + "\"_source\": " + toJSONString(dataToReturn) + ", "
-            + "\"from\": " + startIndex
+            + "\"size\": " + size + ", "
+            + "\"sort\": [{\"" + SORT_FIELD + "\": \"asc\"}]"
+            + (searchAfter == null ? "" : ", \"search_after\": [\"" + searchAfter + "\"]")
             + "}";
     }
 }
@@ -0,0 +1,34 @@
+package uk.gov.hmcts.reform.unspec.repositories;
+
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.util.Optional;
+
+public interface GeneratedDocumentRepository {
+
+    @SqlQuery("SELECT case_document FROM generated_document"
+        + " WHERE case_reference = :caseReference"
+        + " AND template = :template"
+        + " AND template_data_hash = :templateDataHash")
+    Optional<String> findCaseDocument(
+        @Bind("caseReference") Long caseReference,
+        @Bind("template") String template,
+        @Bind("templateDataHash") String templateDataHash
+    );
+
+    @SqlUpdate("INSERT INTO generated_document (case_reference, template, template_data_hash, case_document)"
+        + " VALUES (:caseReference, :template, :templateDataHash, CAST(:caseDocument AS JSONB))"
+        + " ON CONFLICT DO NOTHING")
+    void save(
+        @Bind("caseReference") Long caseReference,
+        @Bind("template") String template,
+        @Bind("templateDataHash") String templateDataHash,
+        @Bind("caseDocument") String caseDocument
+    );
+
+    @SqlUpdate("DELETE FROM generated_document"
+        + " WHERE created_on < now() - :retentionSeconds * INTERVAL '1 second'")
+    int deleteCreatedBefore(@Bind("retentionSeconds") long retentionSeconds);
+}
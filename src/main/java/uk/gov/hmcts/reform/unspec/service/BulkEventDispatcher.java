@@ -0,0 +1,136 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Runs an action, typically triggering a CCD event, for each case found by a scheduler job.
+ *
+ * <p>Cases are handed to a pool of parallelism workers, no more than parallelism of them in progress per job and
+ * started at no more than rate-per-second, which keeps the load on CCD bounded. An action failing for one case is
+ * logged and counted but doesn't stop the others.
+ */
+@Slf4j
+@Service
+public class BulkEventDispatcher implements DisposableBean {
+
+    private static final int PROGRESS_INTERVAL = 100;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final MeterRegistry meterRegistry;
+    private final int parallelism;
+    private final RateLimiter rateLimiter;
+    private final ExecutorService executor;
+
+    @Autowired
+    public BulkEventDispatcher(
+        MeterRegistry meterRegistry,
+        @Value("${bulk-dispatch.parallelism:8}") int parallelism,
+        @Value("${bulk-dispatch.rate-per-second:20}") double ratePerSecond
+    ) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism cannot be less than 1");
+        }
+        this.meterRegistry = meterRegistry;
+        this.parallelism = parallelism;
+        this.rateLimiter = RateLimiter.create(ratePerSecond);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("bulk-dispatch-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+    }
+
+    /**
+     * Runs the action for each case and waits for all of them to finish.
+     *
+     * @param job     the name of the job, used in logs and metrics.
+     * @param caseIds the ids of the cases to run the action for.
+     * @param action  the action to run for a case.
+     * @return the number of cases the action was run for and how many of them failed.
+     */
+    public Summary dispatch(String job, Stream<Long> caseIds, Consumer<Long> action) {
+        Counter succeeded = meterRegistry.counter("bulk.dispatch.cases", "job", job, "result", "success");
+        Counter failed = meterRegistry.counter("bulk.dispatch.cases", "job", job, "result", "failure");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Semaphore idleWorkers = new Semaphore(parallelism);
+        AtomicLong dispatched = new AtomicLong();
+        LongAdder failures = new LongAdder();
+
+        try {
+            caseIds.forEach(caseId -> {
+                idleWorkers.acquireUninterruptibly();
+                rateLimiter.acquire();
+                try {
+                    executor.execute(() -> {
+                        try {
+                            action.accept(caseId);
+                            succeeded.increment();
+                        } catch (Exception e) {
+                            failures.increment();
+                            failed.increment();
+                            log.error("Job '{}' failed for case {}", job, caseId, e);
+                        } finally {
+                            idleWorkers.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    idleWorkers.release();
+                    throw e;
+                }
+                long count = dispatched.incrementAndGet();
+                if (count % PROGRESS_INTERVAL == 0) {
+                    log.info("Job '{}' dispatched {} case(s)", job, count);
+                }
+            });
+        } finally {
+            // Every worker being idle again means all the dispatched cases have finished
+            idleWorkers.acquireUninterruptibly(parallelism);
+            sample.stop(meterRegistry.timer("bulk.dispatch.duration", "job", job));
+        }
+
+        Summary summary = new Summary(dispatched.get(), failures.sum());
+        log.info("Job '{}' dispatched {} case(s), {} failed", job, summary.getTotal(), summary.getFailed());
+        return summary;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        // Cases already handed over still run, so dispatch sees every worker idle again rather than waiting forever
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Bulk dispatch workers did not finish within {} seconds", SHUTDOWN_TIMEOUT_SECONDS);
+        }
+    }
+
+    @Data
+    public static class Summary {
+
+        private final long total;
+        private final long failed;
+
+        /**
+         * Whether the action failed for every case, which points to a problem with the job rather than the cases.
+         */
+        public boolean isEveryCaseFailed() {
+            return total > 0 && failed == total;
+        }
+    }
+}
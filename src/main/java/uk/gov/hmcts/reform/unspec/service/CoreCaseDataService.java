@@ -9,7 +9,6 @@ import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.Event;
 import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
 import uk.gov.hmcts.reform.unspec.config.SystemUpdateUserConfiguration;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
@@ -27,7 +26,7 @@ import static uk.gov.hmcts.reform.unspec.CaseDefinitionConstants.JURISDICTION;
 @RequiredArgsConstructor
 public class CoreCaseDataService {
 
-    private final IdamClient idamClient;
+    private final UserTokenCache userTokenCache;
     private final CoreCaseDataApi coreCaseDataApi;
     private final SystemUpdateUserConfiguration userConfig;
     private final AuthTokenGenerator authTokenGenerator;
@@ -73,19 +72,17 @@ public class CoreCaseDataService {
     }
 
     public SearchResult searchCases(Query query) {
-        String userToken = idamClient.getAccessToken(userConfig.getUserName(), userConfig.getPassword());
+        String userToken = userTokenCache.getAccessToken(userConfig.getUserName(), userConfig.getPassword());
         return coreCaseDataApi.searchCases(userToken, authTokenGenerator.generate(), CASE_TYPE, query.toString());
     }
 
     public CaseDetails getCase(Long caseId) {
-        String userToken = idamClient.getAccessToken(userConfig.getUserName(), userConfig.getPassword());
+        String userToken = userTokenCache.getAccessToken(userConfig.getUserName(), userConfig.getPassword());
         return coreCaseDataApi.getCase(userToken, authTokenGenerator.generate(), caseId.toString());
     }
 
     private UserAuthContent getSystemUpdateUser() {
-        String userToken = idamClient.getAccessToken(userConfig.getUserName(), userConfig.getPassword());
-        String userId = idamClient.getUserInfo(userToken).getUid();
-        return UserAuthContent.builder().userToken(userToken).userId(userId).build();
+        return userTokenCache.getUserAuthContent(userConfig.getUserName(), userConfig.getPassword());
     }
 
     private CaseDataContent caseDataContentFromStartEventResponse(
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.unspec.service;
 
+import com.google.common.collect.Lists;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -7,14 +8,22 @@ import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.ccd.client.CaseAccessDataStoreApi;
 import uk.gov.hmcts.reform.ccd.model.AddCaseAssignedUserRolesRequest;
+import uk.gov.hmcts.reform.ccd.model.CaseAssignedUserRole;
 import uk.gov.hmcts.reform.ccd.model.CaseAssignedUserRoleWithOrganisation;
 import uk.gov.hmcts.reform.ccd.model.CaseAssignedUserRolesRequest;
 import uk.gov.hmcts.reform.ccd.model.CaseAssignedUserRolesResource;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.unspec.config.CrossAccessUserConfiguration;
 import uk.gov.hmcts.reform.unspec.enums.CaseRole;
+import uk.gov.hmcts.reform.unspec.model.CaseRoleAssignment;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static uk.gov.hmcts.reform.unspec.enums.CaseRole.CREATOR;
 
@@ -22,10 +31,13 @@ import static uk.gov.hmcts.reform.unspec.enums.CaseRole.CREATOR;
 @RequiredArgsConstructor
 public class CoreCaseUserService {
 
+    // Cases looked up, or role assignments added or removed, in one call to the case assignment API
+    private static final int BATCH_SIZE = 100;
+
     Logger log = LoggerFactory.getLogger(CoreCaseUserService.class);
 
     private final CaseAccessDataStoreApi caseAccessDataStoreApi;
-    private final IdamClient idamClient;
+    private final UserTokenCache userTokenCache;
     private final CrossAccessUserConfiguration crossAccessUserConfiguration;
     private final AuthTokenGenerator authTokenGenerator;
 
@@ -50,8 +62,90 @@ public class CoreCaseUserService {
         }
     }
 
+    /**
+     * Brings the case roles of users in line with the assignments and removals given, for one or many cases.
+     *
+     * <p>The current roles of all the cases are read once, in one call per hundred cases, then only the assignments
+     * users don't have yet are added and only the removals of roles users still have are removed, each in as few
+     * calls as possible: one add call per hundred role assignments and one remove call per hundred role removals.
+     * Roles are added before any are removed, so a user moving from one role to another never loses access to the
+     * case.
+     *
+     * @param assignments the roles users should have.
+     * @param removals    the roles users should no longer have.
+     */
+    public void reconcileCaseRoles(Collection<CaseRoleAssignment> assignments,
+                                   Collection<CaseRoleAssignment> removals) {
+        Set<String> caseIds = Stream.concat(assignments.stream(), removals.stream())
+            .map(CaseRoleAssignment::getCaseId)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (caseIds.isEmpty()) {
+            return;
+        }
+
+        String caaAccessToken = getCaaAccessToken();
+        Set<List<String>> currentRoles = getCurrentRoles(caseIds, caaAccessToken);
+
+        List<CaseAssignedUserRoleWithOrganisation> toAdd = assignments.stream()
+            .distinct()
+            .filter(assignment -> !currentRoles.contains(key(assignment)))
+            .map(this::toUserRoleWithOrganisation)
+            .collect(Collectors.toList());
+        List<CaseAssignedUserRoleWithOrganisation> toRemove = removals.stream()
+            .distinct()
+            .filter(removal -> currentRoles.contains(key(removal)))
+            .map(this::toUserRoleWithOrganisation)
+            .collect(Collectors.toList());
+
+        Lists.partition(toAdd, BATCH_SIZE).forEach(batch -> caseAccessDataStoreApi.addCaseUserRoles(
+            caaAccessToken,
+            authTokenGenerator.generate(),
+            AddCaseAssignedUserRolesRequest.builder().caseAssignedUserRoles(batch).build()
+        ));
+        Lists.partition(toRemove, BATCH_SIZE).forEach(batch -> caseAccessDataStoreApi.removeCaseUserRoles(
+            caaAccessToken,
+            authTokenGenerator.generate(),
+            CaseAssignedUserRolesRequest.builder().caseAssignedUserRoles(batch).build()
+        ));
+
+        log.info("Reconciled case roles of {} case(s), {} role(s) added and {} removed",
+                 caseIds.size(), toAdd.size(), toRemove.size()
+        );
+    }
+
+    private Set<List<String>> getCurrentRoles(Set<String> caseIds, String caaAccessToken) {
+        Set<List<String>> currentRoles = new HashSet<>();
+        for (List<String> batch : Lists.partition(List.copyOf(caseIds), BATCH_SIZE)) {
+            caseAccessDataStoreApi.getUserRoles(caaAccessToken, authTokenGenerator.generate(), batch)
+                .getCaseAssignedUserRoles()
+                .forEach(role -> currentRoles.add(key(role)));
+        }
+        return currentRoles;
+    }
+
+    private static List<String> key(CaseRoleAssignment assignment) {
+        return Arrays.asList(
+            assignment.getCaseId(),
+            assignment.getUserId(),
+            assignment.getCaseRole().getFormattedName()
+        );
+    }
+
+    private static List<String> key(CaseAssignedUserRole role) {
+        return Arrays.asList(role.getCaseDataId(), role.getUserId(), role.getCaseRole());
+    }
+
+    private CaseAssignedUserRoleWithOrganisation toUserRoleWithOrganisation(CaseRoleAssignment assignment) {
+        return CaseAssignedUserRoleWithOrganisation.builder()
+            .caseDataId(assignment.getCaseId())
+            .userId(assignment.getUserId())
+            .caseRole(assignment.getCaseRole().getFormattedName())
+            .organisationId(assignment.getOrganisationId())
+            .build();
+    }
+
     private String getCaaAccessToken() {
-        return idamClient.getAccessToken(
+        return userTokenCache.getAccessToken(
             crossAccessUserConfiguration.getUserName(),
             crossAccessUserConfiguration.getPassword()
         );
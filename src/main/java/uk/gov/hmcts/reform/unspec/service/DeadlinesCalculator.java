@@ -40,9 +40,6 @@ public class DeadlinesCalculator {
     }
 
     public LocalDate calculateFirstWorkingDay(LocalDate date) {
-        while (!workingDayIndicator.isWorkingDay(date)) {
-            date = date.plusDays(1);
-        }
-        return date;
+        return workingDayIndicator.getNextWorkingDay(date);
     }
 }
@@ -0,0 +1,97 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent downstream calls of a callback concurrently, so the callback takes as long as its slowest call
+ * rather than all of them together.
+ *
+ * <p>Calls run on a pool of at most parallelism threads shared by all callbacks. When every thread is busy a call
+ * runs on the calling thread instead, so a busy pool slows callbacks down to running their calls one after the other
+ * but never queues or rejects them. Failures are rethrown to the caller as they were thrown by the call.
+ */
+@Service
+public class DownstreamCallExecutor implements DisposableBean {
+
+    private final ExecutorService executor;
+
+    @Autowired
+    public DownstreamCallExecutor(MeterRegistry meterRegistry,
+                                  @Value("${downstream-calls.parallelism:16}") int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism cannot be less than 1");
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("downstream-call-");
+        threadFactory.setDaemon(true);
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(
+            parallelism,
+            parallelism,
+            60L,
+            TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            threadFactory,
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        threadPool.allowCoreThreadTimeOut(true);
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, "downstream.calls");
+    }
+
+    /**
+     * Starts a call in the background. The caller goes on with its other calls and then joins the pending call.
+     *
+     * @param call the downstream call.
+     * @return the pending call.
+     */
+    public <T> PendingCall<T> start(Supplier<T> call) {
+        return new PendingCall<>(CompletableFuture.supplyAsync(call, executor));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public static class PendingCall<T> {
+
+        private final CompletableFuture<T> future;
+
+        private PendingCall(CompletableFuture<T> future) {
+            this.future = future;
+        }
+
+        /**
+         * Waits for the call to finish and returns its result.
+         */
+        public T join() {
+            return DownstreamCallExecutor.join(future);
+        }
+    }
+}
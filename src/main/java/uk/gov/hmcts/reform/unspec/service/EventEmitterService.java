@@ -6,6 +6,7 @@ import org.camunda.bpm.engine.RuntimeService;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.unspec.event.DispatchBusinessProcessEvent;
+import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 
 import static java.lang.String.format;
@@ -19,8 +20,10 @@ public class EventEmitterService {
     private final RuntimeService runtimeService;
 
     public void emitBusinessProcessCamundaEvent(CaseData caseData, boolean dispatchProcess) {
-        var caseId = caseData.getCcdCaseReference();
-        var businessProcess = caseData.getBusinessProcess();
+        emitBusinessProcessCamundaEvent(caseData.getCcdCaseReference(), caseData.getBusinessProcess(), dispatchProcess);
+    }
+
+    public void emitBusinessProcessCamundaEvent(Long caseId, BusinessProcess businessProcess, boolean dispatchProcess) {
         var camundaEvent = businessProcess.getCamundaEvent();
         log.info(format("Emitting %s camunda event for case: %d", camundaEvent, caseId));
         try {
@@ -1,18 +1,42 @@
 package uk.gov.hmcts.reform.unspec.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.fees.client.FeesClient;
+import uk.gov.hmcts.reform.fees.client.model.Fee2Dto;
 import uk.gov.hmcts.reform.fees.client.model.FeeLookupResponseDto;
+import uk.gov.hmcts.reform.fees.client.model.FeeVersionDto;
 import uk.gov.hmcts.reform.unspec.config.FeesConfiguration;
 import uk.gov.hmcts.reform.unspec.model.ClaimValue;
 import uk.gov.hmcts.reform.unspec.model.Fee;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
+/**
+ * Looks up the fee for issuing a claim in the fees register.
+ *
+ * <p>Fees are banded by claim value. The flat fee bands of the configured channel and event are loaded from the
+ * fees register on a schedule, and the fee looked up for a claim value inside a band is reused for every other claim
+ * value inside that band until the band or its fee version changes. Claim values outside the known flat bands, such
+ * as percentage fees, are always looked up. Reuse is counted in fees.cache.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class FeesService {
 
     private static final BigDecimal PENCE_PER_POUND = BigDecimal.valueOf(100);
@@ -20,17 +44,90 @@ public class FeesService {
     private final FeesClient feesClient;
     private final FeesConfiguration feesConfiguration;
 
+    private final AtomicReference<List<FeeBand>> feeBands = new AtomicReference<>(List.of());
+    private final Map<FeeBand, Fee> fees = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public FeesService(FeesClient feesClient, FeesConfiguration feesConfiguration, MeterRegistry meterRegistry) {
+        this.feesClient = feesClient;
+        this.feesConfiguration = feesConfiguration;
+        this.hits = meterRegistry.counter("fees.cache", "result", "hit");
+        this.misses = meterRegistry.counter("fees.cache", "result", "miss");
+    }
+
     public Fee getFeeDataByClaimValue(ClaimValue claimValue) {
-        FeeLookupResponseDto feeLookupResponseDto = lookupFee(claimValue);
+        BigDecimal claimValueInPounds = claimValue.toPounds();
+        Optional<FeeBand> feeBand = findFeeBand(claimValueInPounds);
+
+        Fee cached = feeBand.map(fees::get).orElse(null);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        Fee fee = buildFeeDto(lookupFee(claimValueInPounds));
+        // Only reuse the fee when the fees register agrees on the band it belongs to
+        feeBand.filter(band -> band.code.equals(fee.getCode()) && band.version.equals(fee.getVersion()))
+            .ifPresent(band -> fees.putIfAbsent(band, fee));
+        return fee;
+    }
+
+    /**
+     * Reloads the fee bands from the fees register, dropping fees of bands that no longer apply.
+     *
+     * <p>A failed refresh keeps the bands already known.
+     */
+    @Scheduled(
+        initialDelayString = "${fees.cache.initial-delay:PT10S}",
+        fixedDelayString = "${fees.cache.refresh-interval:PT6H}"
+    )
+    public void refreshFeeBands() {
+        try {
+            Fee2Dto[] rangeGroup = feesClient.findRangeGroup(
+                feesConfiguration.getChannel(),
+                feesConfiguration.getEvent()
+            );
+            List<FeeBand> refreshed = Arrays.stream(rangeGroup)
+                .map(this::toFeeBand)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableList());
+
+            feeBands.set(refreshed);
+            fees.keySet().retainAll(refreshed);
+            log.info("Fee bands refreshed, {} flat fee band(s) known", refreshed.size());
+        } catch (Exception e) {
+            log.warn("Unable to refresh fee bands, keeping {} fee band(s) known", feeBands.get().size(), e);
+        }
+    }
 
-        return buildFeeDto(feeLookupResponseDto);
+    private Optional<FeeBand> findFeeBand(BigDecimal claimValueInPounds) {
+        return feeBands.get().stream()
+            .filter(band -> band.contains(claimValueInPounds))
+            .findFirst();
     }
 
-    private FeeLookupResponseDto lookupFee(ClaimValue claimValue) {
+    private FeeBand toFeeBand(Fee2Dto fee) {
+        FeeVersionDto currentVersion = fee.getCurrentVersion();
+        if (fee.getMinRange() == null || currentVersion == null || currentVersion.getFlatAmount() == null) {
+            return null;
+        }
+        return new FeeBand(
+            feesConfiguration.getChannel(),
+            feesConfiguration.getEvent(),
+            fee.getCode(),
+            currentVersion.getVersion().toString(),
+            fee.getMinRange(),
+            fee.getMaxRange()
+        );
+    }
+
+    private FeeLookupResponseDto lookupFee(BigDecimal claimValueInPounds) {
         return feesClient.lookupFee(
             feesConfiguration.getChannel(),
             feesConfiguration.getEvent(),
-            claimValue.toPounds()
+            claimValueInPounds
         );
     }
 
@@ -45,4 +142,23 @@ public class FeesService {
             .version(feeLookupResponseDto.getVersion().toString())
             .build();
     }
+
+    @ToString
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class FeeBand {
+
+        private final String channel;
+        private final String event;
+        private final String code;
+        private final String version;
+        private final BigDecimal minRange;
+        // Null for the open ended top band
+        private final BigDecimal maxRange;
+
+        boolean contains(BigDecimal claimValueInPounds) {
+            return claimValueInPounds.compareTo(minRange) >= 0
+                && (maxRange == null || claimValueInPounds.compareTo(maxRange) <= 0);
+        }
+    }
 }
@@ -1,28 +1,83 @@
 package uk.gov.hmcts.reform.unspec.service;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
 import feign.FeignException;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.prd.client.OrganisationApi;
 import uk.gov.hmcts.reform.prd.model.Organisation;
 import uk.gov.hmcts.reform.unspec.config.PrdAdminUserConfiguration;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import static java.util.Optional.ofNullable;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
+/**
+ * Looks up organisations in Professional Reference Data.
+ *
+ * <p>Organisations rarely change, so lookups by id are cached: organisations found are kept for the time to live
+ * and reloaded in the background once older than the refresh interval, so callers don't wait on PRD for
+ * organisations in regular use. Organisations not found are kept for the shorter not found time to live, so a newly
+ * registered organisation is picked up soon after. Failed lookups are not cached. Cache statistics are published as
+ * the prd.organisations cache. Lookups of a user's own organisation are made with the user's token and are never
+ * cached, so no user tokens are kept.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class OrganisationService {
 
     private final OrganisationApi organisationApi;
     private final AuthTokenGenerator authTokenGenerator;
-    private final IdamClient idamClient;
+    private final UserTokenCache userTokenCache;
     private final PrdAdminUserConfiguration userConfig;
+    private final LoadingCache<String, Optional<Organisation>> organisationsById;
+
+    @Autowired
+    public OrganisationService(
+        OrganisationApi organisationApi,
+        AuthTokenGenerator authTokenGenerator,
+        UserTokenCache userTokenCache,
+        PrdAdminUserConfiguration userConfig,
+        MeterRegistry meterRegistry,
+        @Value("${rd_professional.cache.ttl-seconds:600}") long timeToLiveSeconds,
+        @Value("${rd_professional.cache.not-found-ttl-seconds:60}") long notFoundTimeToLiveSeconds,
+        @Value("${rd_professional.cache.refresh-after-seconds:300}") long refreshAfterSeconds,
+        @Value("${rd_professional.cache.maximum-size:1000}") long maximumSize
+    ) {
+        this(organisationApi, authTokenGenerator, userTokenCache, userConfig, meterRegistry,
+             new CacheSettings(Duration.ofSeconds(timeToLiveSeconds), Duration.ofSeconds(notFoundTimeToLiveSeconds),
+                               Duration.ofSeconds(refreshAfterSeconds), maximumSize
+             ),
+             Ticker.systemTicker(), ForkJoinPool.commonPool()
+        );
+    }
+
+    OrganisationService(OrganisationApi organisationApi, AuthTokenGenerator authTokenGenerator,
+                        UserTokenCache userTokenCache, PrdAdminUserConfiguration userConfig,
+                        MeterRegistry meterRegistry, CacheSettings cacheSettings, Ticker ticker, Executor executor) {
+        this.organisationApi = organisationApi;
+        this.authTokenGenerator = authTokenGenerator;
+        this.userTokenCache = userTokenCache;
+        this.userConfig = userConfig;
+        this.organisationsById = CaffeineCacheMetrics.monitor(
+            meterRegistry,
+            cacheSettings.newCache(ticker, executor, this::lookUpOrganisationById),
+            "prd.organisations"
+        );
+    }
 
     public Optional<Organisation> findOrganisation(String authToken) {
         try {
@@ -35,7 +90,25 @@ public class OrganisationService {
     }
 
     public Optional<Organisation> findOrganisationById(String id) {
-        String authToken = idamClient.getAccessToken(userConfig.getUsername(), userConfig.getPassword());
+        return organisationsById.get(id);
+    }
+
+    /**
+     * Drops the cached lookup of an organisation, so the next lookup goes to PRD.
+     */
+    public void evictOrganisation(String id) {
+        organisationsById.invalidate(id);
+    }
+
+    /**
+     * Drops all cached organisation lookups.
+     */
+    public void evictAll() {
+        organisationsById.invalidateAll();
+    }
+
+    private Optional<Organisation> lookUpOrganisationById(String id) {
+        String authToken = userTokenCache.getAccessToken(userConfig.getUsername(), userConfig.getPassword());
         try {
             return ofNullable(organisationApi.findOrganisationById(authToken, authTokenGenerator.generate(), id));
         } catch (FeignException.NotFound ex) {
@@ -43,4 +116,48 @@ public class OrganisationService {
             return Optional.empty();
         }
     }
+
+    static class CacheSettings implements Expiry<String, Optional<Organisation>> {
+
+        private final long timeToLiveNanos;
+        private final long notFoundTimeToLiveNanos;
+        private final long refreshAfterNanos;
+        private final long maximumSize;
+
+        CacheSettings(Duration timeToLive, Duration notFoundTimeToLive, Duration refreshAfter, long maximumSize) {
+            this.timeToLiveNanos = timeToLive.toNanos();
+            this.notFoundTimeToLiveNanos = notFoundTimeToLive.toNanos();
+            this.refreshAfterNanos = refreshAfter.toNanos();
+            this.maximumSize = maximumSize;
+        }
+
+        LoadingCache<String, Optional<Organisation>> newCache(Ticker ticker, Executor executor,
+                                                              CacheLoader<String, Optional<Organisation>> loader) {
+            return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(this)
+                .refreshAfterWrite(refreshAfterNanos, NANOSECONDS)
+                .ticker(ticker)
+                .executor(executor)
+                .recordStats()
+                .build(loader);
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Optional<Organisation> organisation, long currentTime) {
+            return organisation.isPresent() ? timeToLiveNanos : notFoundTimeToLiveNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<Organisation> organisation, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, organisation, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<Organisation> organisation, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,164 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.idam.client.IdamClient;
+import uk.gov.hmcts.reform.unspec.service.data.UserAuthContent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caches IDAM access tokens and user ids of the configured system users, keyed by user name.
+ *
+ * <p>A token is refreshed once it gets within the refresh window of its JWT expiry. Only one caller refreshes
+ * a user at a time: while the cached token is still valid the others carry on with it, otherwise they wait for
+ * the refresh to finish.
+ */
+@Slf4j
+@Service
+public class UserTokenCache {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final IdamClient idamClient;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Duration refreshBefore;
+    private final Duration defaultTimeToLive;
+    private final Map<String, CachedUser> users = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter refreshes;
+    private final Counter failures;
+    private final Timer refreshTimer;
+
+    @Autowired
+    public UserTokenCache(
+        IdamClient idamClient,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${idam.token-cache.refresh-before-seconds:300}") long refreshBeforeSeconds,
+        @Value("${idam.token-cache.default-ttl-seconds:300}") long defaultTimeToLiveSeconds
+    ) {
+        this(idamClient, objectMapper, meterRegistry, Clock.systemUTC(),
+             Duration.ofSeconds(refreshBeforeSeconds), Duration.ofSeconds(defaultTimeToLiveSeconds)
+        );
+    }
+
+    UserTokenCache(IdamClient idamClient, ObjectMapper objectMapper, MeterRegistry meterRegistry, Clock clock,
+                   Duration refreshBefore, Duration defaultTimeToLive) {
+        this.idamClient = idamClient;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.refreshBefore = refreshBefore;
+        this.defaultTimeToLive = defaultTimeToLive;
+        this.hits = meterRegistry.counter("idam.token.cache", "result", "hit");
+        this.refreshes = meterRegistry.counter("idam.token.cache", "result", "refresh");
+        this.failures = meterRegistry.counter("idam.token.cache", "result", "failure");
+        this.refreshTimer = meterRegistry.timer("idam.token.refresh");
+    }
+
+    public String getAccessToken(String username, String password) {
+        return getUserAuthContent(username, password).getUserToken();
+    }
+
+    public UserAuthContent getUserAuthContent(String username, String password) {
+        Instant now = clock.instant();
+        CachedUser cached = users.get(username);
+        if (isFresh(cached, now)) {
+            hits.increment();
+            return cached.getAuthContent();
+        }
+
+        ReentrantLock lock = locks.computeIfAbsent(username, key -> new ReentrantLock());
+        if (isUsable(cached, now)) {
+            if (!lock.tryLock()) {
+                hits.increment();
+                return cached.getAuthContent();
+            }
+        } else {
+            lock.lock();
+        }
+
+        try {
+            CachedUser current = users.get(username);
+            if (isFresh(current, clock.instant())) {
+                hits.increment();
+                return current.getAuthContent();
+            }
+            CachedUser refreshed = refreshTimer.record(() -> refresh(username, password));
+            users.put(username, refreshed);
+            return refreshed.getAuthContent();
+        } catch (RuntimeException e) {
+            failures.increment();
+            if (isUsable(cached, clock.instant())) {
+                log.warn("Failed to refresh IDAM access token, using the cached one until it expires", e);
+                return cached.getAuthContent();
+            }
+            throw e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CachedUser refresh(String username, String password) {
+        String userToken = idamClient.getAccessToken(username, password);
+        String userId = idamClient.getUserInfo(userToken).getUid();
+        refreshes.increment();
+        return new CachedUser(
+            UserAuthContent.builder().userToken(userToken).userId(userId).build(),
+            expiryOf(userToken)
+        );
+    }
+
+    private boolean isFresh(CachedUser cachedUser, Instant now) {
+        return isUsable(cachedUser, now.plus(refreshBefore));
+    }
+
+    private boolean isUsable(CachedUser cachedUser, Instant now) {
+        return cachedUser != null && now.isBefore(cachedUser.getExpiresAt());
+    }
+
+    private Instant expiryOf(String userToken) {
+        String jwt = userToken.startsWith(BEARER_PREFIX) ? userToken.substring(BEARER_PREFIX.length()) : userToken;
+        String[] parts = jwt.split("\\.");
+        if (parts.length == 3) {
+            try {
+                JsonNode claims = objectMapper.readTree(
+                    new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                );
+                if (claims.hasNonNull("exp")) {
+                    return Instant.ofEpochSecond(claims.get("exp").asLong());
+                }
+            } catch (Exception e) {
+                log.warn("Unable to read expiry of IDAM access token, caching it for {}", defaultTimeToLive);
+            }
+        }
+        // Without an expiry claim the token is kept for the default time to live past the refresh window
+        return clock.instant().plus(refreshBefore).plus(defaultTimeToLive);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class CachedUser {
+
+        private final UserAuthContent authContent;
+        private final Instant expiresAt;
+    }
+}
@@ -0,0 +1,155 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
+
+/**
+ * Immutable index of working days, built once from the public holidays and custom non-working days.
+ *
+ * <p>Days from the start of the year of the earliest holiday to the end of the year after the latest one are held
+ * in a bit set, with the number of working days before each day and the day of each working day in order, so
+ * checking a day, finding the next or previous working day and adding working days take constant time. Dates
+ * outside that range fall back to checking one day at a time.
+ */
+public class WorkingDayCalendar {
+
+    private final Set<LocalDate> publicHolidays;
+    private final Set<LocalDate> nonWorkingDays;
+    private final long firstDay;
+    private final int days;
+    private final BitSet workingDays;
+    // Number of working days before firstDay + i, with one extra entry for the end of the range
+    private final int[] workingDaysBefore;
+    // Epoch day of the n-th working day in the range
+    private final long[] workingDayByIndex;
+
+    private WorkingDayCalendar(Set<LocalDate> publicHolidays, Set<LocalDate> nonWorkingDays, LocalDate from,
+                               LocalDate to) {
+        this.publicHolidays = publicHolidays;
+        this.nonWorkingDays = nonWorkingDays;
+        this.firstDay = from.toEpochDay();
+        this.days = (int) (to.toEpochDay() - firstDay + 1);
+        this.workingDays = new BitSet(days);
+        this.workingDaysBefore = new int[days + 1];
+
+        for (int i = 0; i < days; i++) {
+            boolean workingDay = checkWorkingDay(LocalDate.ofEpochDay(firstDay + i));
+            workingDays.set(i, workingDay);
+            workingDaysBefore[i + 1] = workingDaysBefore[i] + (workingDay ? 1 : 0);
+        }
+
+        this.workingDayByIndex = new long[workingDaysBefore[days]];
+        for (int i = workingDays.nextSetBit(0); i >= 0; i = workingDays.nextSetBit(i + 1)) {
+            workingDayByIndex[workingDaysBefore[i]] = firstDay + i;
+        }
+    }
+
+    public static WorkingDayCalendar of(Set<LocalDate> publicHolidays, Set<LocalDate> nonWorkingDays) {
+        LocalDate today = LocalDate.now();
+        LocalDate earliest = Stream.concat(publicHolidays.stream(), nonWorkingDays.stream())
+            .min(LocalDate::compareTo)
+            .orElse(today);
+        LocalDate latest = Stream.concat(publicHolidays.stream(), nonWorkingDays.stream())
+            .max(LocalDate::compareTo)
+            .orElse(today);
+
+        return new WorkingDayCalendar(
+            publicHolidays,
+            nonWorkingDays,
+            LocalDate.of(earliest.getYear(), 1, 1),
+            LocalDate.of(latest.getYear() + 1, 12, 31)
+        );
+    }
+
+    /**
+     * Whether the calendar was built from these very collections, so it doesn't need building again.
+     */
+    public boolean isBuiltFrom(Set<LocalDate> publicHolidays, Set<LocalDate> nonWorkingDays) {
+        return this.publicHolidays == publicHolidays && this.nonWorkingDays == nonWorkingDays;
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        int index = indexOf(date);
+        return index >= 0 ? workingDays.get(index) : checkWorkingDay(date);
+    }
+
+    /**
+     * Returns the given date when it's a working day, otherwise the first working day after it.
+     */
+    public LocalDate getNextWorkingDay(LocalDate date) {
+        int index = indexOf(date);
+        if (index >= 0 && workingDaysBefore[index] < workingDayByIndex.length) {
+            return LocalDate.ofEpochDay(workingDayByIndex[workingDaysBefore[index]]);
+        }
+
+        LocalDate day = date;
+        while (!isWorkingDay(day)) {
+            day = day.plusDays(1);
+        }
+        return day;
+    }
+
+    /**
+     * Returns the given date when it's a working day, otherwise the last working day before it.
+     */
+    public LocalDate getPreviousWorkingDay(LocalDate date) {
+        int index = indexOf(date);
+        if (index >= 0 && workingDaysBefore[index + 1] > 0) {
+            return LocalDate.ofEpochDay(workingDayByIndex[workingDaysBefore[index + 1] - 1]);
+        }
+
+        LocalDate day = date;
+        while (!isWorkingDay(day)) {
+            day = day.minusDays(1);
+        }
+        return day;
+    }
+
+    /**
+     * Returns the working day that is the given number of working days after the date, which doesn't have to be a
+     * working day itself.
+     */
+    public LocalDate plusWorkingDays(LocalDate date, int workingDaysToAdd) {
+        if (workingDaysToAdd < 0) {
+            throw new IllegalArgumentException("Working days to add cannot be less than 0");
+        }
+        if (workingDaysToAdd == 0) {
+            return date;
+        }
+
+        int index = indexOf(date);
+        if (index >= 0) {
+            long target = (long) workingDaysBefore[index + 1] + workingDaysToAdd - 1;
+            if (target < workingDayByIndex.length) {
+                return LocalDate.ofEpochDay(workingDayByIndex[(int) target]);
+            }
+        }
+
+        LocalDate day = date;
+        int added = 0;
+        while (added < workingDaysToAdd) {
+            day = day.plusDays(1);
+            if (isWorkingDay(day)) {
+                added++;
+            }
+        }
+        return day;
+    }
+
+    private int indexOf(LocalDate date) {
+        long index = date.toEpochDay() - firstDay;
+        return index >= 0 && index < days ? (int) index : -1;
+    }
+
+    private boolean checkWorkingDay(LocalDate date) {
+        return date.getDayOfWeek() != SATURDAY
+            && date.getDayOfWeek() != SUNDAY
+            && !publicHolidays.contains(date)
+            && !nonWorkingDays.contains(date);
+    }
+}
@@ -6,6 +6,8 @@ import uk.gov.hmcts.reform.unspec.service.bankholidays.NonWorkingDaysCollection;
 import uk.gov.hmcts.reform.unspec.service.bankholidays.PublicHolidaysCollection;
 
 import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.time.DayOfWeek.SATURDAY;
 import static java.time.DayOfWeek.SUNDAY;
@@ -17,14 +19,13 @@ public class WorkingDayIndicator {
 
     private final PublicHolidaysCollection publicHolidaysCollection;
     private final NonWorkingDaysCollection nonWorkingDaysCollection;
+    private final AtomicReference<WorkingDayCalendar> calendar = new AtomicReference<>();
 
     /**
      * Verifies if given date is a working day in UK (England and Wales only).
      */
     public boolean isWorkingDay(LocalDate date) {
-        return !isWeekend(date)
-            && !isPublicHoliday(date)
-            && !isCustomNonWorkingDay(date);
+        return getCalendar().isWorkingDay(date);
     }
 
     public boolean isWeekend(LocalDate date) {
@@ -42,12 +43,32 @@ public class WorkingDayIndicator {
     public LocalDate getNextWorkingDay(LocalDate date) {
         requireNonNull(date);
 
-        return isWorkingDay(date) ? date : getNextWorkingDay(date.plusDays(1));
+        return getCalendar().getNextWorkingDay(date);
     }
 
     public LocalDate getPreviousWorkingDay(LocalDate date) {
         requireNonNull(date);
 
-        return isWorkingDay(date) ? date : getPreviousWorkingDay(date.minusDays(1));
+        return getCalendar().getPreviousWorkingDay(date);
+    }
+
+    public LocalDate plusWorkingDays(LocalDate date, int workingDays) {
+        requireNonNull(date);
+
+        return getCalendar().plusWorkingDays(date, workingDays);
+    }
+
+    // Built on first use and again whenever either collection hands out a different set of days
+    private WorkingDayCalendar getCalendar() {
+        Set<LocalDate> publicHolidays = publicHolidaysCollection.getPublicHolidays();
+        Set<LocalDate> nonWorkingDays = nonWorkingDaysCollection.getNonWorkingDays();
+        WorkingDayCalendar current = calendar.get();
+        if (current != null && current.isBuiltFrom(publicHolidays, nonWorkingDays)) {
+            return current;
+        }
+
+        WorkingDayCalendar rebuilt = WorkingDayCalendar.of(publicHolidays, nonWorkingDays);
+        calendar.set(rebuilt);
+        return rebuilt;
     }
 }
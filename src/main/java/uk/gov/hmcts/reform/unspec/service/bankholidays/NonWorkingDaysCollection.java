@@ -5,29 +5,48 @@ import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.unspec.helpers.ResourceReader;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Arrays;
-import java.util.function.Predicate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class NonWorkingDaysCollection {
 
-    private final String dataResource;
+    private final Set<LocalDate> nonWorkingDays;
 
     public NonWorkingDaysCollection(@Value("${nonworking-days.datafile}") String dataSource) {
-        this.dataResource = dataSource;
+        this.nonWorkingDays = readNonWorkingDays(dataSource);
     }
 
     public boolean contains(LocalDate date) {
-        final String isoDate = date.format(DateTimeFormatter.ISO_LOCAL_DATE);
+        return nonWorkingDays.contains(date);
+    }
+
+    public Set<LocalDate> getNonWorkingDays() {
+        return nonWorkingDays;
+    }
+
+    private static Set<LocalDate> readNonWorkingDays(String dataResource) {
         try {
             String data = ResourceReader.readString(dataResource);
             return Arrays.stream(data.split("[\r\n]+"))
                 .map(String::trim)
-                .anyMatch(Predicate.isEqual(isoDate));
+                .map(NonWorkingDaysCollection::parseDate)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toUnmodifiableSet());
         } catch (IllegalStateException e) {
             // thrown from ResourceReader#readString
-            return false;
+            return Set.of();
+        }
+    }
+
+    private static Optional<LocalDate> parseDate(String isoDate) {
+        try {
+            return Optional.of(LocalDate.parse(isoDate));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
         }
     }
 }
@@ -1,38 +1,128 @@
 package uk.gov.hmcts.reform.unspec.service.bankholidays;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.unspec.helpers.ResourceReader;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+import static java.time.temporal.ChronoUnit.DAYS;
+
 /**
  * Stores all public holidays retrieved from Gov uk API: https://www.gov.uk/bank-holidays.json
+ *
+ * <p>Holidays are loaded from a snapshot of the API response bundled with the application on startup and refreshed
+ * from the API in the background, so working out a deadline never waits on, or fails because of, gov.uk. A failed
+ * refresh keeps the holidays already held.
  */
+@Slf4j
 @Service
 public class PublicHolidaysCollection {
 
     private final BankHolidaysApi bankHolidaysApi;
-    private Set<LocalDate> cachedPublicHolidays;
+    private final AtomicReference<Set<LocalDate>> publicHolidays;
+    private final AtomicReference<Instant> lastUpdated;
+    private final Counter refreshed;
+    private final Counter refreshFailed;
 
     @Autowired
-    public PublicHolidaysCollection(BankHolidaysApi bankHolidaysApi) {
+    public PublicHolidaysCollection(
+        BankHolidaysApi bankHolidaysApi,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${bankHolidays.snapshot:/data/bank-holidays.json}") String snapshot
+    ) {
         this.bankHolidaysApi = bankHolidaysApi;
+        this.publicHolidays = new AtomicReference<>(readSnapshot(objectMapper, snapshot));
+        // The snapshot is as old as the release it was bundled with, so the age is only known once refreshed
+        this.lastUpdated = new AtomicReference<>();
+
+        meterRegistry.gauge(
+            "bank.holidays.age",
+            this,
+            collection -> collection.getAge().map(age -> (double) age.toSeconds()).orElse(Double.NaN)
+        );
+        meterRegistry.gauge("bank.holidays.horizon", this, PublicHolidaysCollection::getDaysUntilLastHoliday);
+        this.refreshed = meterRegistry.counter("bank.holidays.refresh", "result", "success");
+        this.refreshFailed = meterRegistry.counter("bank.holidays.refresh", "result", "failure");
     }
 
-    private Set<LocalDate> retrieveAllPublicHolidays() {
-        BankHolidays bankHolidays = bankHolidaysApi.retrieveAll();
+    public Set<LocalDate> getPublicHolidays() {
+        return publicHolidays.get();
+    }
 
-        return bankHolidays.englandAndWales.events.stream()
-            .map(item -> item.date)
-            .collect(Collectors.toSet());
+    /**
+     * Replaces the public holidays with the ones currently published by gov.uk.
+     *
+     * <p>The set is only swapped when the holidays have changed, so anything built from the previous set, such as
+     * the working day calendar, stays valid.
+     */
+    @Scheduled(
+        initialDelayString = "${bankHolidays.refresh.initial-delay:PT10S}",
+        fixedDelayString = "${bankHolidays.refresh.interval:PT12H}"
+    )
+    public void refresh() {
+        try {
+            Set<LocalDate> retrieved = toDates(bankHolidaysApi.retrieveAll());
+            if (retrieved.isEmpty()) {
+                throw new IllegalStateException("No England and Wales bank holidays returned");
+            }
+            if (!retrieved.equals(publicHolidays.get())) {
+                publicHolidays.set(retrieved);
+                log.info("Bank holidays refreshed, {} holiday(s) known", retrieved.size());
+            }
+            lastUpdated.set(Instant.now());
+            refreshed.increment();
+        } catch (Exception e) {
+            refreshFailed.increment();
+            log.warn("Unable to refresh bank holidays, keeping {} holiday(s) known", publicHolidays.get().size(), e);
+        }
     }
 
-    public Set<LocalDate> getPublicHolidays() {
-        if (cachedPublicHolidays == null) {
-            cachedPublicHolidays = retrieveAllPublicHolidays();
+    /**
+     * Time since the holidays were last refreshed from gov.uk, empty while only the snapshot has been loaded.
+     */
+    public Optional<Duration> getAge() {
+        return Optional.ofNullable(lastUpdated.get()).map(updated -> Duration.between(updated, Instant.now()));
+    }
+
+    private long getDaysUntilLastHoliday() {
+        return publicHolidays.get().stream()
+            .max(LocalDate::compareTo)
+            .map(lastHoliday -> DAYS.between(LocalDate.now(), lastHoliday))
+            .orElse(0L);
+    }
+
+    private static Set<LocalDate> readSnapshot(ObjectMapper objectMapper, String snapshot) {
+        try {
+            Set<LocalDate> holidays = toDates(objectMapper.readValue(
+                ResourceReader.readString(snapshot),
+                BankHolidays.class
+            ));
+            log.info("Loaded {} bank holiday(s) from {}", holidays.size(), snapshot);
+            return holidays;
+        } catch (IOException | RuntimeException e) {
+            log.error("Unable to load bank holidays snapshot {}, waiting for refresh", snapshot, e);
+            return Set.of();
         }
-        return cachedPublicHolidays;
+    }
+
+    private static Set<LocalDate> toDates(BankHolidays bankHolidays) {
+        return bankHolidays.englandAndWales.events.stream()
+            .map(item -> item.date)
+            .collect(Collectors.toUnmodifiableSet());
     }
 }
@@ -14,6 +14,7 @@ import uk.gov.hmcts.reform.unspec.config.DocmosisConfiguration;
 import uk.gov.hmcts.reform.unspec.model.common.MappableObject;
 import uk.gov.hmcts.reform.unspec.model.docmosis.DocmosisDocument;
 import uk.gov.hmcts.reform.unspec.model.docmosis.DocmosisRequest;
+import uk.gov.hmcts.reform.unspec.model.documents.DocumentContent;
 
 import java.util.Map;
 
@@ -45,17 +46,24 @@ public class DocumentGeneratorService {
 
         HttpEntity<DocmosisRequest> request = new HttpEntity<>(requestBody, headers);
 
-        byte[] response;
+        DocumentContent content;
 
         try {
-            response = restTemplate.exchange(configuration.getUrl() + API_RENDER,
-                                             HttpMethod.POST, request, byte[].class
-            ).getBody();
+            // The rendered document is read straight from the response, spooling to disk above the threshold
+            content = restTemplate.execute(
+                configuration.getUrl() + API_RENDER,
+                HttpMethod.POST,
+                restTemplate.httpEntityCallback(request),
+                response -> DocumentContent.spool(
+                    response.getBody(),
+                    Math.toIntExact(configuration.getSpoolThreshold().toBytes())
+                )
+            );
         } catch (HttpClientErrorException ex) {
             log.error("Docmosis document generation failed for " + ex.getMessage());
             throw ex;
         }
 
-        return new DocmosisDocument(template.getDocumentTitle(), response);
+        return new DocmosisDocument(template.getDocumentTitle(), content);
     }
 }
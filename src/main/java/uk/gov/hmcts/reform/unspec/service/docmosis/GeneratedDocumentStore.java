@@ -0,0 +1,128 @@
+package uk.gov.hmcts.reform.unspec.service.docmosis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.unspec.model.common.MappableObject;
+import uk.gov.hmcts.reform.unspec.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.unspec.repositories.GeneratedDocumentRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the documents generated for a case, so a retried task reuses the document it already uploaded instead
+ * of rendering and uploading it again.
+ *
+ * <p>Documents are looked up by case, template and a hash of the template data, so a document is only reused when
+ * it would be rendered from exactly the same data. The store is an optimisation: when it can't be read or written
+ * the document is simply generated.
+ *
+ * <p>A document is only worth reusing while its task may still be retried, so documents older than the retention
+ * are deleted on a schedule.
+ */
+@Slf4j
+@Service
+public class GeneratedDocumentStore {
+
+    private final GeneratedDocumentRepository generatedDocumentRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration retention;
+
+    public GeneratedDocumentStore(
+        GeneratedDocumentRepository generatedDocumentRepository,
+        ObjectMapper objectMapper,
+        @Value("${generated-documents.retention:P30D}") Duration retention
+    ) {
+        this.generatedDocumentRepository = generatedDocumentRepository;
+        this.objectMapper = objectMapper;
+        this.retention = retention;
+    }
+
+    public CaseDocument getOrGenerate(
+        Long caseReference,
+        DocmosisTemplates template,
+        MappableObject templateData,
+        Supplier<CaseDocument> generator
+    ) {
+        if (caseReference == null) {
+            return generator.get();
+        }
+
+        String templateDataHash = hash(templateData);
+        Optional<CaseDocument> generated = find(caseReference, template, templateDataHash);
+        if (generated.isPresent()) {
+            log.info("Reusing {} already generated for case {}", template.getTemplate(), caseReference);
+            return generated.get();
+        }
+
+        CaseDocument caseDocument = generator.get();
+        save(caseReference, template, templateDataHash, caseDocument);
+        return caseDocument;
+    }
+
+    /**
+     * Deletes the documents generated longer ago than the retention.
+     */
+    @Scheduled(
+        initialDelayString = "${generated-documents.cleanup.initial-delay:PT10M}",
+        fixedDelayString = "${generated-documents.cleanup.interval:PT6H}"
+    )
+    public void deleteExpired() {
+        try {
+            int deleted = generatedDocumentRepository.deleteCreatedBefore(retention.toSeconds());
+            log.info("Deleted {} generated document(s) older than {}", deleted, retention);
+        } catch (Exception e) {
+            log.warn("Unable to delete generated documents older than {}", retention, e);
+        }
+    }
+
+    private Optional<CaseDocument> find(Long caseReference, DocmosisTemplates template, String templateDataHash) {
+        try {
+            return generatedDocumentRepository.findCaseDocument(caseReference, template.name(), templateDataHash)
+                .map(this::toCaseDocument);
+        } catch (Exception e) {
+            log.warn("Unable to look up {} generated for case {}", template.getTemplate(), caseReference, e);
+            return Optional.empty();
+        }
+    }
+
+    private void save(Long caseReference, DocmosisTemplates template, String templateDataHash,
+                      CaseDocument caseDocument) {
+        try {
+            generatedDocumentRepository.save(
+                caseReference,
+                template.name(),
+                templateDataHash,
+                objectMapper.writeValueAsString(caseDocument)
+            );
+        } catch (Exception e) {
+            log.warn("Unable to store {} generated for case {}", template.getTemplate(), caseReference, e);
+        }
+    }
+
+    private String hash(MappableObject templateData) {
+        try {
+            byte[] json = objectMapper.writer()
+                .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                .writeValueAsBytes(templateData);
+            return Hashing.sha256().hashBytes(json).toString();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable to serialise template data", e);
+        }
+    }
+
+    private CaseDocument toCaseDocument(String json) {
+        try {
+            return objectMapper.readValue(json, CaseDocument.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to read stored case document", e);
+        }
+    }
+}
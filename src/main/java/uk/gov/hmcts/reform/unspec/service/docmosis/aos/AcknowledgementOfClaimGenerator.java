@@ -8,9 +8,11 @@ import uk.gov.hmcts.reform.unspec.model.docmosis.DocmosisDocument;
 import uk.gov.hmcts.reform.unspec.model.docmosis.aos.AcknowledgementOfClaimForm;
 import uk.gov.hmcts.reform.unspec.model.docmosis.common.Respondent;
 import uk.gov.hmcts.reform.unspec.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.unspec.model.documents.DocumentContent;
 import uk.gov.hmcts.reform.unspec.model.documents.DocumentType;
 import uk.gov.hmcts.reform.unspec.model.documents.PDF;
 import uk.gov.hmcts.reform.unspec.service.docmosis.DocumentGeneratorService;
+import uk.gov.hmcts.reform.unspec.service.docmosis.GeneratedDocumentStore;
 import uk.gov.hmcts.reform.unspec.service.docmosis.RepresentativeService;
 import uk.gov.hmcts.reform.unspec.service.docmosis.TemplateDataGenerator;
 import uk.gov.hmcts.reform.unspec.service.documentmanagement.DocumentManagementService;
@@ -25,16 +27,21 @@ public class AcknowledgementOfClaimGenerator implements TemplateDataGenerator<Ac
 
     private final DocumentManagementService documentManagementService;
     private final DocumentGeneratorService documentGeneratorService;
+    private final GeneratedDocumentStore generatedDocumentStore;
     private final RepresentativeService representativeService;
 
     public CaseDocument generate(CaseData caseData, String authorisation) {
         AcknowledgementOfClaimForm templateData = getTemplateData(caseData);
 
-        DocmosisDocument docmosisDocument = documentGeneratorService.generateDocmosisDocument(templateData, N9);
-        return documentManagementService.uploadDocument(
-            authorisation,
-            new PDF(getFileName(caseData), docmosisDocument.getBytes(), DocumentType.ACKNOWLEDGEMENT_OF_CLAIM)
-        );
+        return generatedDocumentStore.getOrGenerate(caseData.getCcdCaseReference(), N9, templateData, () -> {
+            DocmosisDocument docmosisDocument = documentGeneratorService.generateDocmosisDocument(templateData, N9);
+            try (DocumentContent content = docmosisDocument.getContent()) {
+                return documentManagementService.uploadDocument(
+                    authorisation,
+                    new PDF(getFileName(caseData), content, DocumentType.ACKNOWLEDGEMENT_OF_CLAIM)
+                );
+            }
+        });
     }
 
     private String getFileName(CaseData caseData) {
@@ -17,11 +17,13 @@ import uk.gov.hmcts.reform.unspec.model.docmosis.dq.Hearing;
 import uk.gov.hmcts.reform.unspec.model.docmosis.dq.WelshLanguageRequirements;
 import uk.gov.hmcts.reform.unspec.model.docmosis.dq.Witnesses;
 import uk.gov.hmcts.reform.unspec.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.unspec.model.documents.DocumentContent;
 import uk.gov.hmcts.reform.unspec.model.documents.DocumentType;
 import uk.gov.hmcts.reform.unspec.model.documents.PDF;
 import uk.gov.hmcts.reform.unspec.model.dq.DQ;
 import uk.gov.hmcts.reform.unspec.model.dq.HearingSupport;
 import uk.gov.hmcts.reform.unspec.service.docmosis.DocumentGeneratorService;
+import uk.gov.hmcts.reform.unspec.service.docmosis.GeneratedDocumentStore;
 import uk.gov.hmcts.reform.unspec.service.docmosis.RepresentativeService;
 import uk.gov.hmcts.reform.unspec.service.docmosis.TemplateDataGenerator;
 import uk.gov.hmcts.reform.unspec.service.documentmanagement.DocumentManagementService;
@@ -45,17 +47,22 @@ public class DirectionsQuestionnaireGenerator implements TemplateDataGenerator<D
 
     private final DocumentManagementService documentManagementService;
     private final DocumentGeneratorService documentGeneratorService;
+    private final GeneratedDocumentStore generatedDocumentStore;
     private final StateFlowEngine stateFlowEngine;
     private final RepresentativeService representativeService;
 
     public CaseDocument generate(CaseData caseData, String authorisation) {
         DirectionsQuestionnaireForm templateData = getTemplateData(caseData);
 
-        DocmosisDocument docmosisDocument = documentGeneratorService.generateDocmosisDocument(templateData, N181);
-        return documentManagementService.uploadDocument(
-            authorisation,
-            new PDF(getFileName(caseData), docmosisDocument.getBytes(), DocumentType.DIRECTIONS_QUESTIONNAIRE)
-        );
+        return generatedDocumentStore.getOrGenerate(caseData.getCcdCaseReference(), N181, templateData, () -> {
+            DocmosisDocument docmosisDocument = documentGeneratorService.generateDocmosisDocument(templateData, N181);
+            try (DocumentContent content = docmosisDocument.getContent()) {
+                return documentManagementService.uploadDocument(
+                    authorisation,
+                    new PDF(getFileName(caseData), content, DocumentType.DIRECTIONS_QUESTIONNAIRE)
+                );
+            }
+        });
     }
 
     private String getFileName(CaseData caseData) {
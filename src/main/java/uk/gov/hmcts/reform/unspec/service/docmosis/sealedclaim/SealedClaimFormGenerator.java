@@ -13,9 +13,11 @@ import uk.gov.hmcts.reform.unspec.model.docmosis.common.Respondent;
 import uk.gov.hmcts.reform.unspec.model.docmosis.sealedclaim.Representative;
 import uk.gov.hmcts.reform.unspec.model.docmosis.sealedclaim.SealedClaimForm;
 import uk.gov.hmcts.reform.unspec.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.unspec.model.documents.DocumentContent;
 import uk.gov.hmcts.reform.unspec.model.documents.DocumentType;
 import uk.gov.hmcts.reform.unspec.model.documents.PDF;
 import uk.gov.hmcts.reform.unspec.service.docmosis.DocumentGeneratorService;
+import uk.gov.hmcts.reform.unspec.service.docmosis.GeneratedDocumentStore;
 import uk.gov.hmcts.reform.unspec.service.docmosis.RepresentativeService;
 import uk.gov.hmcts.reform.unspec.service.docmosis.TemplateDataGenerator;
 import uk.gov.hmcts.reform.unspec.service.documentmanagement.DocumentManagementService;
@@ -52,16 +54,21 @@ public class SealedClaimFormGenerator implements TemplateDataGenerator<SealedCla
 
     private final DocumentManagementService documentManagementService;
     private final DocumentGeneratorService documentGeneratorService;
+    private final GeneratedDocumentStore generatedDocumentStore;
     private final RepresentativeService representativeService;
 
     public CaseDocument generate(CaseData caseData, String authorisation) {
         SealedClaimForm templateData = getTemplateData(caseData);
 
-        DocmosisDocument docmosisDocument = documentGeneratorService.generateDocmosisDocument(templateData, N1);
-        return documentManagementService.uploadDocument(
-            authorisation,
-            new PDF(getFileName(caseData), docmosisDocument.getBytes(), DocumentType.SEALED_CLAIM)
-        );
+        return generatedDocumentStore.getOrGenerate(caseData.getCcdCaseReference(), N1, templateData, () -> {
+            DocmosisDocument docmosisDocument = documentGeneratorService.generateDocmosisDocument(templateData, N1);
+            try (DocumentContent content = docmosisDocument.getContent()) {
+                return documentManagementService.uploadDocument(
+                    authorisation,
+                    new PDF(getFileName(caseData), content, DocumentType.SEALED_CLAIM)
+                );
+            }
+        });
     }
 
     private String getFileName(CaseData caseData) {
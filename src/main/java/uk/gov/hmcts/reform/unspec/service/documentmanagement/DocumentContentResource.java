@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.unspec.service.documentmanagement;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.AbstractResource;
+import uk.gov.hmcts.reform.unspec.model.documents.DocumentContent;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Multipart resource streaming a generated document from its content, so a spooled document is never read into
+ * memory as a whole. Content length is known up front, so the length is not found by reading the stream either.
+ */
+@EqualsAndHashCode(callSuper = false)
+@RequiredArgsConstructor
+class DocumentContentResource extends AbstractResource {
+
+    private final String filename;
+    private final DocumentContent content;
+
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Document content [" + filename + "]";
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return content.getSize();
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return content.getInputStream();
+    }
+}
@@ -1,22 +1,25 @@
 package uk.gov.hmcts.reform.unspec.service.documentmanagement;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.document.DocumentDownloadClientApi;
 import uk.gov.hmcts.reform.document.DocumentMetadataDownloadClientApi;
-import uk.gov.hmcts.reform.document.DocumentUploadClientApi;
 import uk.gov.hmcts.reform.document.domain.Classification;
 import uk.gov.hmcts.reform.document.domain.Document;
 import uk.gov.hmcts.reform.document.domain.UploadResponse;
-import uk.gov.hmcts.reform.document.utils.InMemoryMultipartFile;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 import uk.gov.hmcts.reform.unspec.config.DocumentManagementConfiguration;
 import uk.gov.hmcts.reform.unspec.model.documents.CaseDocument;
@@ -27,40 +30,68 @@ import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
-import static java.util.Collections.singletonList;
-import static org.springframework.http.MediaType.APPLICATION_PDF_VALUE;
-
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class DocumentManagementService {
 
     public static final String UNSPEC = "Unspec";
+    protected static final String API_DOCUMENTS = "/documents";
     protected static final String FILES_NAME = "files";
+    private static final String ROLES_NAME = "roles";
+    private static final String CLASSIFICATION_NAME = "classification";
+    private static final String SERVICE_AUTHORIZATION = "ServiceAuthorization";
+    private static final String USER_ID = "user-id";
 
-    private final DocumentUploadClientApi documentUploadClientApi;
+    private final RestTemplate documentManagementRestTemplate;
     private final DocumentDownloadClientApi documentDownloadClientApi;
     private final DocumentMetadataDownloadClientApi documentMetadataDownloadClient;
     private final AuthTokenGenerator authTokenGenerator;
     private final UserService userService;
     private final DocumentManagementConfiguration documentManagementConfiguration;
 
+    public DocumentManagementService(
+        @Qualifier("documentManagementRestTemplate") RestTemplate documentManagementRestTemplate,
+        DocumentDownloadClientApi documentDownloadClientApi,
+        DocumentMetadataDownloadClientApi documentMetadataDownloadClient,
+        AuthTokenGenerator authTokenGenerator,
+        UserService userService,
+        DocumentManagementConfiguration documentManagementConfiguration
+    ) {
+        this.documentManagementRestTemplate = documentManagementRestTemplate;
+        this.documentDownloadClientApi = documentDownloadClientApi;
+        this.documentMetadataDownloadClient = documentMetadataDownloadClient;
+        this.authTokenGenerator = authTokenGenerator;
+        this.userService = userService;
+        this.documentManagementConfiguration = documentManagementConfiguration;
+    }
+
     @Retryable(value = {DocumentUploadException.class}, backoff = @Backoff(delay = 200))
     public CaseDocument uploadDocument(String authorisation, PDF pdf) {
         String originalFileName = pdf.getFileBaseName();
         log.info("Uploading file {}", originalFileName);
         try {
-            MultipartFile file
-                = new InMemoryMultipartFile(FILES_NAME, originalFileName, APPLICATION_PDF_VALUE, pdf.getBytes());
-
             UserInfo userInfo = userService.getUserInfo(authorisation);
-            UploadResponse response = documentUploadClientApi.upload(
-                authorisation,
-                authTokenGenerator.generate(),
-                userInfo.getUid(),
-                documentManagementConfiguration.getUserRoles(),
-                Classification.RESTRICTED,
-                singletonList(file)
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+            headers.set(HttpHeaders.AUTHORIZATION, authorisation);
+            headers.set(SERVICE_AUTHORIZATION, authTokenGenerator.generate());
+            headers.set(USER_ID, userInfo.getUid());
+
+            // The file part is streamed from the document content, which may be spooled to disk
+            HttpHeaders fileHeaders = new HttpHeaders();
+            fileHeaders.setContentType(MediaType.APPLICATION_PDF);
+            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+            body.addAll(ROLES_NAME, documentManagementConfiguration.getUserRoles());
+            body.add(CLASSIFICATION_NAME, Classification.RESTRICTED.name());
+            body.add(FILES_NAME, new HttpEntity<>(
+                new DocumentContentResource(originalFileName, pdf.getContent()),
+                fileHeaders
+            ));
+
+            UploadResponse response = documentManagementRestTemplate.postForObject(
+                documentManagementConfiguration.getUrl() + API_DOCUMENTS,
+                new HttpEntity<>(body, headers),
+                UploadResponse.class
             );
 
             Document document = response.getEmbedded().getDocuments().stream()
@@ -1,12 +1,16 @@
 package uk.gov.hmcts.reform.unspec.service.flowstate;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.stateflow.CompiledStateFlow;
 import uk.gov.hmcts.reform.unspec.stateflow.StateFlow;
 import uk.gov.hmcts.reform.unspec.stateflow.StateFlowBuilder;
+import uk.gov.hmcts.reform.unspec.stateflow.StateFlowConformance;
+import uk.gov.hmcts.reform.unspec.stateflow.StateFlowEvaluationMode;
+import uk.gov.hmcts.reform.unspec.stateflow.grammar.Build;
 import uk.gov.hmcts.reform.unspec.stateflow.model.State;
 
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowPredicate.applicantOutOfTime;
@@ -62,12 +66,24 @@ import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.RESPON
 import static uk.gov.hmcts.reform.unspec.service.flowstate.FlowState.Main.TAKEN_OFFLINE_PAST_APPLICANT_RESPONSE_DEADLINE;
 
 @Component
-@RequiredArgsConstructor
 public class StateFlowEngine {
 
     private final CaseDetailsConverter caseDetailsConverter;
+    private final StateFlowEvaluationMode evaluationMode;
+    private final CompiledStateFlow compiledStateFlow;
+
+    public StateFlowEngine(CaseDetailsConverter caseDetailsConverter,
+                           @Value("${stateflow.evaluation-mode:COMPILED}") StateFlowEvaluationMode evaluationMode) {
+        this.caseDetailsConverter = caseDetailsConverter;
+        this.evaluationMode = evaluationMode;
+        this.compiledStateFlow = flow().compile();
+    }
 
     public StateFlow build() {
+        return flow().build();
+    }
+
+    private Build flow() {
         return StateFlowBuilder.<FlowState.Main>flow(FLOW_NAME)
             .initial(DRAFT)
                 .transitionTo(PENDING_CASE_ISSUED).onlyIf(pendingCaseIssued)
@@ -146,16 +162,26 @@ public class StateFlowEngine {
             .state(CLAIM_DISCONTINUED)
             .state(CLAIM_DISMISSED_PAST_CLAIM_DETAILS_NOTIFICATION_DEADLINE)
             .state(TAKEN_OFFLINE_PAST_APPLICANT_RESPONSE_DEADLINE)
-            .state(CLAIM_DISMISSED_PAST_CLAIM_NOTIFICATION_DEADLINE)
-            .build();
+            .state(CLAIM_DISMISSED_PAST_CLAIM_NOTIFICATION_DEADLINE);
     }
 
     public StateFlow evaluate(CaseDetails caseDetails) {
-        return evaluate(caseDetailsConverter.toCaseData(caseDetails));
+        return StateFlowMemo.evaluate(caseDetails, () -> evaluate(caseDetailsConverter.toCaseData(caseDetails)));
     }
 
     public StateFlow evaluate(CaseData caseData) {
-        return build().evaluate(caseData);
+        return StateFlowMemo.evaluate(caseData, () -> evaluateUnmemoised(caseData));
+    }
+
+    private StateFlow evaluateUnmemoised(CaseData caseData) {
+        switch (evaluationMode) {
+            case STATE_MACHINE:
+                return build().evaluate(caseData);
+            case CONFORMANCE:
+                return StateFlowConformance.verify(build().evaluate(caseData), compiledStateFlow.evaluate(caseData));
+            default:
+                return compiledStateFlow.evaluate(caseData);
+        }
     }
 
     public boolean hasTransitionedTo(CaseDetails caseDetails, FlowState.Main state) {
@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.unspec.service.flowstate;
+
+import uk.gov.hmcts.reform.unspec.stateflow.StateFlow;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Memoises state flow evaluations for the duration of a callback or an external task.
+ *
+ * <p>The event-allowed check, the handler and the documents it generates all evaluate the same case, so while
+ * {@link #within(Supplier)} runs a case is evaluated once and its result reused. Cases are matched by identity, so a
+ * lookup never compares case contents, and results are only kept on the calling thread until the callback or task
+ * finishes, so neither a stale state nor a state machine is ever shared with another caller. Outside of it every
+ * evaluation runs. Reuse is counted here and published as stateflow.memo by {@link StateFlowMemoMetrics}.
+ */
+public class StateFlowMemo {
+
+    private static final ThreadLocal<Map<Object, StateFlow>> EVALUATIONS = new ThreadLocal<>();
+    static final LongAdder HITS = new LongAdder();
+    static final LongAdder MISSES = new LongAdder();
+
+    private StateFlowMemo() {
+    }
+
+    /**
+     * Runs the work of a callback or an external task with state flow evaluations memoised.
+     *
+     * @param work the callback or external task.
+     * @return the result of the work.
+     */
+    public static <T> T within(Supplier<T> work) {
+        if (EVALUATIONS.get() != null) {
+            return work.get();
+        }
+
+        EVALUATIONS.set(new IdentityHashMap<>());
+        try {
+            return work.get();
+        } finally {
+            EVALUATIONS.remove();
+        }
+    }
+
+    static StateFlow evaluate(Object snapshot, Supplier<StateFlow> evaluation) {
+        Map<Object, StateFlow> evaluations = EVALUATIONS.get();
+        if (evaluations == null) {
+            return evaluation.get();
+        }
+
+        StateFlow memoised = evaluations.get(snapshot);
+        if (memoised != null) {
+            HITS.increment();
+            return memoised;
+        }
+
+        MISSES.increment();
+        StateFlow stateFlow = evaluation.get();
+        evaluations.put(snapshot, stateFlow);
+        return stateFlow;
+    }
+}
@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.unspec.service.flowstate;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes the hits and misses of {@link StateFlowMemo} to the application meter registry.
+ */
+@Component
+public class StateFlowMemoMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("stateflow.memo", StateFlowMemo.HITS, LongAdder::sum)
+            .tag("result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder("stateflow.memo", StateFlowMemo.MISSES, LongAdder::sum)
+            .tag("result", "miss")
+            .register(meterRegistry);
+    }
+}
@@ -3,30 +3,48 @@ package uk.gov.hmcts.reform.unspec.service.robotics;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationMessage;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.unspec.service.robotics.exception.JsonSchemaValidationException;
 import uk.gov.hmcts.reform.unspec.utils.ResourceReader;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
 
+/**
+ * Validates JSON payloads against a JSON schema on the classpath.
+ *
+ * <p>Each schema file is read and compiled once, on first use, and the compiled schema is reused for every payload
+ * validated against it after that. The validation outcome of each payload is counted in json.schema.validation.
+ */
 @Slf4j
 @Service
 public class JsonSchemaValidationService {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final JsonSchemaFactory SCHEMA_FACTORY = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
+
+    private final Map<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
     private String jsonSchemaFile;
 
-    public JsonSchemaValidationService() {
-        this.jsonSchemaFile = "schema/rpa-json-schema.json";
+    @Autowired
+    public JsonSchemaValidationService(MeterRegistry meterRegistry) {
+        this("schema/rpa-json-schema.json", meterRegistry);
     }
 
-    public JsonSchemaValidationService(String jsonSchemaFile) {
+    public JsonSchemaValidationService(String jsonSchemaFile, MeterRegistry meterRegistry) {
         this.jsonSchemaFile = jsonSchemaFile;
+        this.meterRegistry = meterRegistry;
     }
 
     public boolean isValid(String body) {
@@ -48,14 +66,40 @@ public class JsonSchemaValidationService {
     }
 
     public Set<ValidationMessage> validate(String body, String jsonSchemaFileName) {
-        String jsonSchemaContents = readJsonSchema(jsonSchemaFileName);
-        var jsonSchema = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7).getSchema(jsonSchemaContents);
-        return jsonSchema.validate(getJsonNodeFromStringContent(body));
+        JsonNode payload;
+        try {
+            payload = getJsonNodeFromStringContent(body);
+        } catch (JsonSchemaValidationException e) {
+            countOutcome(jsonSchemaFileName, "unparseable");
+            throw e;
+        }
+        return validate(payload, jsonSchemaFileName);
+    }
+
+    public Set<ValidationMessage> validate(JsonNode payload) {
+        return validate(payload, jsonSchemaFile);
+    }
+
+    public Set<ValidationMessage> validate(JsonNode payload, String jsonSchemaFileName) {
+        Set<ValidationMessage> errors = getJsonSchema(jsonSchemaFileName).validate(payload);
+        countOutcome(jsonSchemaFileName, errors.isEmpty() ? "valid" : "invalid");
+        return errors;
+    }
+
+    private JsonSchema getJsonSchema(String jsonSchemaFileName) {
+        return schemas.computeIfAbsent(
+            jsonSchemaFileName,
+            fileName -> SCHEMA_FACTORY.getSchema(readJsonSchema(fileName))
+        );
+    }
+
+    private void countOutcome(String jsonSchemaFileName, String outcome) {
+        meterRegistry.counter("json.schema.validation", "schema", jsonSchemaFileName, "outcome", outcome).increment();
     }
 
     private JsonNode getJsonNodeFromStringContent(String content) {
         try {
-            return new ObjectMapper().readTree(content);
+            return OBJECT_MAPPER.readTree(content);
         } catch (JsonProcessingException e) {
             throw new JsonSchemaValidationException(e.getMessage(), e);
         }
@@ -1,60 +1,204 @@
 package uk.gov.hmcts.reform.unspec.service.robotics;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.AllArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.unspec.config.properties.robotics.RoboticsEmailConfiguration;
-import uk.gov.hmcts.reform.unspec.model.CaseData;
-import uk.gov.hmcts.reform.unspec.model.robotics.RoboticsCaseData;
+import uk.gov.hmcts.reform.unspec.sendgrid.EmailAttachment;
 import uk.gov.hmcts.reform.unspec.sendgrid.EmailData;
 import uk.gov.hmcts.reform.unspec.sendgrid.SendGridClient;
-import uk.gov.hmcts.reform.unspec.service.robotics.exception.RoboticsDataException;
-import uk.gov.hmcts.reform.unspec.service.robotics.mapper.RoboticsDataMapper;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.stream.Collectors;
 import javax.validation.constraints.NotNull;
 
 import static java.util.List.of;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static uk.gov.hmcts.reform.unspec.sendgrid.EmailAttachment.json;
 
+/**
+ * Emails robotics the case data JSON of cases handed offline.
+ *
+ * <p>With robotics.notification.batch.enabled, cases notified within the batch window, or until max-size cases are
+ * waiting, are sent together as one email with an attachment per case. Each caller still waits until the email with
+ * its case has been sent and gets the failure if it wasn't, so a case is only marked as taken offline once robotics
+ * has been notified of it.
+ */
 @Slf4j
 @Service
-@AllArgsConstructor
 @ConditionalOnProperty(prefix = "sendgrid", value = "api-key")
-public class RoboticsNotificationService {
+public class RoboticsNotificationService implements DisposableBean {
 
     private final SendGridClient sendGridClient;
     private final RoboticsEmailConfiguration roboticsEmailConfiguration;
-    private final RoboticsDataMapper roboticsDataMapper;
-    private final ObjectMapper objectMapper;
+    private final ScheduledExecutorService scheduler;
+    private final Counter casesDelivered;
+    private final Counter casesFailed;
 
-    public void notifyRobotics(@NotNull CaseData caseData) {
-        requireNonNull(caseData);
-        EmailData emailData = prepareEmailData(caseData);
-        sendGridClient.sendEmail(roboticsEmailConfiguration.getSender(), emailData);
+    private final Object lock = new Object();
+    private List<PendingCase> pendingCases = new ArrayList<>();
+    private ScheduledFuture<?> scheduledSend;
+
+    public RoboticsNotificationService(
+        SendGridClient sendGridClient,
+        RoboticsEmailConfiguration roboticsEmailConfiguration,
+        MeterRegistry meterRegistry
+    ) {
+        this.sendGridClient = sendGridClient;
+        this.roboticsEmailConfiguration = roboticsEmailConfiguration;
+        this.casesDelivered = meterRegistry.counter("robotics.notification.cases", "result", "delivered");
+        this.casesFailed = meterRegistry.counter("robotics.notification.cases", "result", "failed");
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("robotics-batch-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    /**
+     * Emails robotics the case data JSON of a case, already mapped, validated and serialised by the caller.
+     *
+     * @param legacyCaseReference the reference of the case.
+     * @param roboticsJsonData    the robotics case data JSON.
+     */
+    public void notifyRobotics(@NotNull String legacyCaseReference, @NotNull byte[] roboticsJsonData) {
+        requireNonNull(legacyCaseReference);
+        requireNonNull(roboticsJsonData);
+        PendingCase pendingCase = new PendingCase(legacyCaseReference, roboticsJsonData);
+
+        if (!roboticsEmailConfiguration.getBatch().isEnabled()) {
+            send(List.of(pendingCase));
+        } else {
+            enqueue(pendingCase);
+        }
+        awaitDelivery(pendingCase);
+    }
+
+    @Override
+    public void destroy() {
+        sendPendingCases();
+        scheduler.shutdown();
+    }
+
+    private void enqueue(PendingCase pendingCase) {
+        List<PendingCase> fullBatch = null;
+        synchronized (lock) {
+            pendingCases.add(pendingCase);
+            if (pendingCases.size() >= roboticsEmailConfiguration.getBatch().getMaxSize()) {
+                fullBatch = takePendingCases();
+            } else if (scheduledSend == null) {
+                scheduledSend = scheduler.schedule(
+                    this::sendPendingCases,
+                    roboticsEmailConfiguration.getBatch().getWindow().toMillis(),
+                    MILLISECONDS
+                );
+            }
+        }
+        if (fullBatch != null) {
+            send(fullBatch);
+        }
+    }
+
+    private void sendPendingCases() {
+        List<PendingCase> batch;
+        synchronized (lock) {
+            batch = takePendingCases();
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    // Must be called holding the lock
+    private List<PendingCase> takePendingCases() {
+        if (scheduledSend != null) {
+            scheduledSend.cancel(false);
+            scheduledSend = null;
+        }
+        List<PendingCase> taken = pendingCases;
+        pendingCases = new ArrayList<>();
+        return taken;
+    }
+
+    private void send(List<PendingCase> batch) {
+        try {
+            sendGridClient.sendEmail(roboticsEmailConfiguration.getSender(), prepareEmailData(batch));
+            batch.forEach(pendingCase -> pendingCase.delivery.complete(null));
+            casesDelivered.increment(batch.size());
+            log.info("Robotics notified of case(s) {}", references(batch));
+        } catch (RuntimeException e) {
+            batch.forEach(pendingCase -> pendingCase.delivery.completeExceptionally(e));
+            casesFailed.increment(batch.size());
+            log.error("Unable to notify robotics of case(s) {}", references(batch), e);
+        }
+    }
+
+    private void awaitDelivery(PendingCase pendingCase) {
+        try {
+            pendingCase.delivery.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting to notify robotics", e);
+        }
     }
 
-    private EmailData prepareEmailData(CaseData caseData) {
-        RoboticsCaseData roboticsCaseData = roboticsDataMapper.toRoboticsCaseData(caseData);
-        byte[] roboticsJsonData = toJson(roboticsCaseData);
-        String fileName = String.format("CaseData_%s.json", caseData.getLegacyCaseReference());
+    private EmailData prepareEmailData(List<PendingCase> batch) {
+        if (batch.size() == 1) {
+            return prepareEmailData(batch.get(0));
+        }
+        List<EmailAttachment> attachments = batch.stream()
+            .map(pendingCase -> json(pendingCase.roboticsJsonData, fileName(pendingCase.legacyCaseReference)))
+            .collect(Collectors.toList());
 
         return EmailData.builder()
-            .message(String.format("Robotics case data JSON is attached for %s", caseData.getLegacyCaseReference()))
-            .subject(String.format("Robotics case data for %s", caseData.getLegacyCaseReference()))
+            .message(String.format("Robotics case data JSON is attached for %s", references(batch)))
+            .subject(String.format("Robotics case data for %d cases", batch.size()))
             .to(roboticsEmailConfiguration.getRecipient())
-            .attachments(of(json(roboticsJsonData, fileName)))
+            .attachments(attachments)
             .build();
     }
 
-    private byte[] toJson(RoboticsCaseData roboticsCaseData) {
-        try {
-            return objectMapper.writeValueAsBytes(roboticsCaseData);
-        } catch (JsonProcessingException e) {
-            throw new RoboticsDataException(e.getMessage(), e);
-        }
+    private EmailData prepareEmailData(PendingCase pendingCase) {
+        String legacyCaseReference = pendingCase.legacyCaseReference;
+
+        return EmailData.builder()
+            .message(String.format("Robotics case data JSON is attached for %s", legacyCaseReference))
+            .subject(String.format("Robotics case data for %s", legacyCaseReference))
+            .to(roboticsEmailConfiguration.getRecipient())
+            .attachments(of(json(pendingCase.roboticsJsonData, fileName(legacyCaseReference))))
+            .build();
+    }
+
+    private static String fileName(String legacyCaseReference) {
+        return String.format("CaseData_%s.json", legacyCaseReference);
+    }
+
+    private static String references(List<PendingCase> batch) {
+        return batch.stream()
+            .map(pendingCase -> pendingCase.legacyCaseReference)
+            .collect(Collectors.joining(", "));
+    }
+
+    @RequiredArgsConstructor
+    private static class PendingCase {
+
+        private final String legacyCaseReference;
+        private final byte[] roboticsJsonData;
+        private final CompletableFuture<Void> delivery = new CompletableFuture<>();
     }
 }
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.unspec.service.search;
 
 import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.unspec.enums.CaseState;
 import uk.gov.hmcts.reform.unspec.model.search.Query;
@@ -18,12 +19,13 @@ import static uk.gov.hmcts.reform.unspec.enums.CaseState.CASE_ISSUED;
 @Service
 public class CaseDismissedSearchService extends ElasticSearchService {
 
-    public CaseDismissedSearchService(CoreCaseDataService coreCaseDataService) {
-        super(coreCaseDataService);
+    public CaseDismissedSearchService(CoreCaseDataService coreCaseDataService,
+                                      @Value("${search.page-size:100}") int pageSize) {
+        super(coreCaseDataService, pageSize);
     }
 
-    public Query query(int startIndex) {
-        return new Query(
+    public Query query(int pageSize, Long searchAfter) {
+        return Query.pageAfter(
             boolQuery()
                 .minimumShouldMatch(1)
                 .should(boolQuery()
@@ -36,7 +38,8 @@ public class CaseDismissedSearchService extends ElasticSearchService {
                             .must(rangeQuery("data.claimDismissedDeadline").lt("now"))
                             .must(beState(AWAITING_RESPONDENT_ACKNOWLEDGEMENT))),
             List.of("reference"),
-            startIndex
+            pageSize,
+            searchAfter
         );
     }
 
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.unspec.service.search;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.unspec.model.search.Query;
 import uk.gov.hmcts.reform.unspec.service.CoreCaseDataService;
@@ -12,15 +13,17 @@ import static org.elasticsearch.index.query.QueryBuilders.matchQuery;
 @Service
 public class CaseReadyBusinessProcessSearchService extends ElasticSearchService {
 
-    public CaseReadyBusinessProcessSearchService(CoreCaseDataService coreCaseDataService) {
-        super(coreCaseDataService);
+    public CaseReadyBusinessProcessSearchService(CoreCaseDataService coreCaseDataService,
+                                                 @Value("${search.page-size:100}") int pageSize) {
+        super(coreCaseDataService, pageSize);
     }
 
-    public Query query(int startIndex) {
-        return new Query(
+    public Query query(int pageSize, Long searchAfter) {
+        return Query.pageAfter(
             boolQuery().must(matchQuery("data.businessProcess.status", "READY")),
-            List.of(),
-            startIndex
+            List.of("reference", "data.businessProcess"),
+            pageSize,
+            searchAfter
         );
     }
 }
@@ -1,41 +1,42 @@
 package uk.gov.hmcts.reform.unspec.service.search;
 
-import lombok.RequiredArgsConstructor;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
-import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.unspec.model.search.Query;
 import uk.gov.hmcts.reform.unspec.service.CoreCaseDataService;
 
-import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
-import static java.math.RoundingMode.UP;
-
-@RequiredArgsConstructor
 public abstract class ElasticSearchService {
 
     private final CoreCaseDataService coreCaseDataService;
+    private final int pageSize;
 
-    private static final int START_INDEX = 0;
-    private static final int ES_DEFAULT_SEARCH_LIMIT = 10;
-
-    public List<CaseDetails> getCases() {
-        SearchResult searchResult = coreCaseDataService.searchCases(query(START_INDEX));
-        int pages = calculatePages(searchResult);
-        List<CaseDetails> caseDetails = new ArrayList<>(searchResult.getCases());
-
-        for (int i = 1; i < pages; i++) {
-            SearchResult result = coreCaseDataService.searchCases(query(i * ES_DEFAULT_SEARCH_LIMIT));
-            caseDetails.addAll(result.getCases());
+    protected ElasticSearchService(CoreCaseDataService coreCaseDataService, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size cannot be less than 1");
         }
+        this.coreCaseDataService = coreCaseDataService;
+        this.pageSize = pageSize;
+    }
 
-        return caseDetails;
+    /**
+     * Streams the matching cases in case reference order. Each page is searched after the reference of the last
+     * case of the previous one, once the stream gets to it, so only one page of cases is held at a time.
+     *
+     * @return the matching cases.
+     */
+    public Stream<CaseDetails> getCases() {
+        return Stream.iterate(
+            searchPage(null),
+            page -> !page.isEmpty(),
+            page -> page.size() < pageSize ? List.of() : searchPage(page.get(page.size() - 1).getId())
+        ).flatMap(List::stream);
     }
 
-    abstract Query query(int startIndex);
+    abstract Query query(int pageSize, Long searchAfter);
 
-    private int calculatePages(SearchResult searchResult) {
-        return new BigDecimal(searchResult.getTotal()).divide(new BigDecimal(ES_DEFAULT_SEARCH_LIMIT), UP).intValue();
+    private List<CaseDetails> searchPage(Long searchAfter) {
+        return coreCaseDataService.searchCases(query(pageSize, searchAfter)).getCases();
     }
 }
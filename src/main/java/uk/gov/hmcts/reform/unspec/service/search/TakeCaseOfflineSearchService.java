@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.unspec.service.search;
 
 import org.elasticsearch.index.query.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.unspec.model.search.Query;
 import uk.gov.hmcts.reform.unspec.service.CoreCaseDataService;
@@ -14,17 +15,19 @@ import static org.elasticsearch.index.query.QueryBuilders.rangeQuery;
 @Service
 public class TakeCaseOfflineSearchService extends ElasticSearchService {
 
-    public TakeCaseOfflineSearchService(CoreCaseDataService coreCaseDataService) {
-        super(coreCaseDataService);
+    public TakeCaseOfflineSearchService(CoreCaseDataService coreCaseDataService,
+                                        @Value("${search.page-size:100}") int pageSize) {
+        super(coreCaseDataService, pageSize);
     }
 
-    public Query query(int startIndex) {
-        return new Query(
+    public Query query(int pageSize, Long searchAfter) {
+        return Query.pageAfter(
             boolQuery()
                 .must(rangeQuery("data.applicant1ResponseDeadline").lt("now"))
                 .must(beValidState()),
             List.of("reference"),
-            startIndex
+            pageSize,
+            searchAfter
         );
     }
 
@@ -1,7 +1,5 @@
 package uk.gov.hmcts.reform.unspec.service.tasklisteners;
 
-import org.camunda.bpm.client.ExternalTaskClient;
-import org.camunda.bpm.client.topic.TopicSubscriptionBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.unspec.handler.tasks.ClaimDismissedHandler;
@@ -12,8 +10,8 @@ public class CaseDismissedExternalTaskListener {
     private static final String TOPIC = "CASE_DISMISSED";
 
     @Autowired
-    private CaseDismissedExternalTaskListener(ClaimDismissedHandler claimDismissedHandler, ExternalTaskClient client) {
-        TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(claimDismissedHandler).open();
+    private CaseDismissedExternalTaskListener(ClaimDismissedHandler claimDismissedHandler,
+                                              ExternalTaskWorkers externalTaskWorkers) {
+        externalTaskWorkers.subscribe(TOPIC, claimDismissedHandler);
     }
 }
@@ -1,7 +1,5 @@
 package uk.gov.hmcts.reform.unspec.service.tasklisteners;
 
-import org.camunda.bpm.client.ExternalTaskClient;
-import org.camunda.bpm.client.topic.TopicSubscriptionBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.unspec.handler.tasks.EndBusinessProcessTaskHandler;
@@ -12,8 +10,8 @@ public class EndBusinessProcessExternalTaskListener {
     private static final String TOPIC = "END_BUSINESS_PROCESS";
 
     @Autowired
-    private EndBusinessProcessExternalTaskListener(EndBusinessProcessTaskHandler handler, ExternalTaskClient client) {
-        TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(handler).open();
+    private EndBusinessProcessExternalTaskListener(EndBusinessProcessTaskHandler handler,
+                                                   ExternalTaskWorkers externalTaskWorkers) {
+        externalTaskWorkers.subscribe(TOPIC, handler);
     }
 }
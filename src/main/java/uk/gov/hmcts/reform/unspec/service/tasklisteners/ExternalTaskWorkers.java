@@ -0,0 +1,111 @@
+package uk.gov.hmcts.reform.unspec.service.tasklisteners;
+
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.client.ExternalTaskClient;
+import org.camunda.bpm.client.task.ExternalTaskHandler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import uk.gov.hmcts.reform.unspec.config.properties.camunda.ExternalTaskProperties;
+import uk.gov.hmcts.reform.unspec.config.properties.camunda.ExternalTaskProperties.TopicProperties;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Opens the topic subscriptions of the external task listeners.
+ *
+ * <p>Topics configured under external-task.topics are fetched by a client of their own, so a slow handler of one
+ * topic doesn't hold up the tasks of another. Their tasks are handled by a pool of concurrency workers and the
+ * fetching thread waits for a free worker before handing over the next task. Such a topic may not fetch more tasks
+ * at once than it has workers, so a fetched task never sits locked waiting for a worker while its lock runs down.
+ * All other topics are fetched and handled one task at a time by the shared client.
+ */
+@Slf4j
+public class ExternalTaskWorkers implements DisposableBean {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final ExternalTaskClient sharedClient;
+    private final ExternalTaskProperties properties;
+    private final Function<TopicProperties, ExternalTaskClient> clientFactory;
+    private final List<ExternalTaskClient> topicClients = new CopyOnWriteArrayList<>();
+    private final List<ExecutorService> topicExecutors = new CopyOnWriteArrayList<>();
+
+    public ExternalTaskWorkers(ExternalTaskClient sharedClient,
+                               ExternalTaskProperties properties,
+                               Function<TopicProperties, ExternalTaskClient> clientFactory) {
+        this.sharedClient = sharedClient;
+        this.properties = properties;
+        this.clientFactory = clientFactory;
+    }
+
+    public void subscribe(String topic, ExternalTaskHandler handler) {
+        TopicProperties topicProperties = properties.getTopics().get(topic);
+        if (topicProperties == null) {
+            sharedClient.subscribe(topic).handler(handler).open();
+            return;
+        }
+        if (topicProperties.getMaxTasks() > topicProperties.getConcurrency()) {
+            throw new IllegalArgumentException(String.format(
+                "External task topic '%s' fetches up to %d tasks but has only %d worker(s), max-tasks cannot exceed "
+                    + "concurrency",
+                topic, topicProperties.getMaxTasks(), topicProperties.getConcurrency()
+            ));
+        }
+
+        log.info("Subscribing to external task topic '{}' with {} worker(s), fetching up to {} task(s)",
+                 topic, topicProperties.getConcurrency(), topicProperties.getMaxTasks()
+        );
+        ExternalTaskClient client = clientFactory.apply(topicProperties);
+        topicClients.add(client);
+        client.subscribe(topic)
+            .handler(withWorkers(topic, handler, topicProperties.getConcurrency()))
+            .open();
+    }
+
+    private ExternalTaskHandler withWorkers(String topic, ExternalTaskHandler handler, int concurrency) {
+        if (concurrency <= 1) {
+            return handler;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+            concurrency,
+            new CustomizableThreadFactory(topic + "-worker-")
+        );
+        topicExecutors.add(executor);
+        Semaphore idleWorkers = new Semaphore(concurrency);
+
+        return (externalTask, externalTaskService) -> {
+            idleWorkers.acquireUninterruptibly();
+            try {
+                executor.execute(() -> {
+                    try {
+                        handler.execute(externalTask, externalTaskService);
+                    } finally {
+                        idleWorkers.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                idleWorkers.release();
+                throw e;
+            }
+        };
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        topicClients.forEach(ExternalTaskClient::stop);
+        topicExecutors.forEach(ExecutorService::shutdown);
+        for (ExecutorService executor : topicExecutors) {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("External task workers did not finish within {} seconds", SHUTDOWN_TIMEOUT_SECONDS);
+            }
+        }
+    }
+}
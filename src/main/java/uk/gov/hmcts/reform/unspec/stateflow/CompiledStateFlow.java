@@ -0,0 +1,94 @@
+package uk.gov.hmcts.reform.unspec.stateflow;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.stateflow.exception.StateFlowException;
+import uk.gov.hmcts.reform.unspec.stateflow.model.Transition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable state/transition table compiled once from a {@link StateFlowContext}.
+ * Unlike the Spring State Machine backed {@link StateFlow}, a compiled flow is thread-safe and can be shared,
+ * evaluating a case simply walks the table from the initial state.
+ */
+@Slf4j
+public class CompiledStateFlow {
+
+    private final String initialState;
+    private final int maxDepth;
+    private final Map<String, List<Transition>> transitionsBySource;
+
+    public CompiledStateFlow(StateFlowContext stateFlowContext) {
+        this.initialState = stateFlowContext.getInitialState()
+            .orElseThrow(() -> new StateFlowException("Failed to compile StateFlow without initial state."));
+        Set<String> states = Set.copyOf(stateFlowContext.getStates());
+        this.maxDepth = states.size();
+
+        // Transitions to undeclared states are ignored, same as the state machine does
+        Map<String, List<Transition>> transitions = stateFlowContext.getTransitions().stream()
+            .filter(transition -> states.contains(transition.getTargetState()))
+            .map(transition -> new Transition(
+                transition.getSourceState(),
+                transition.getTargetState(),
+                transition.getCondition()
+            ))
+            .collect(Collectors.groupingBy(Transition::getSourceState, LinkedHashMap::new, Collectors.toList()));
+        transitions.replaceAll((source, list) -> List.copyOf(list));
+        this.transitionsBySource = Collections.unmodifiableMap(transitions);
+    }
+
+    public StateFlow evaluate(CaseData caseData) {
+        String currentState = initialState;
+        List<String> history = new ArrayList<>();
+        history.add(currentState);
+
+        boolean ambiguous = false;
+        List<Transition> permittedTransitions = findPermittedTransitions(currentState, caseData);
+        while (!permittedTransitions.isEmpty()) {
+            if (permittedTransitions.size() > 1) {
+                ambiguous = true;
+                log.error(String.format(
+                    "Ambiguous transitions permitting state [%s] to move to more than one next states [%s].",
+                    currentState, toPermittedStates(permittedTransitions)
+                ));
+            }
+            if (history.size() > maxDepth) {
+                throw new StateFlowException(String.format("Cyclic transitions detected at state [%s].", currentState));
+            }
+            // When ambiguous, the last declared transition wins as it does in the state machine
+            currentState = permittedTransitions.get(permittedTransitions.size() - 1).getTargetState();
+            history.add(currentState);
+            permittedTransitions = findPermittedTransitions(currentState, caseData);
+        }
+
+        return new EvaluatedStateFlow(this, history, ambiguous);
+    }
+
+    public List<Transition> getTransitions(String sourceState) {
+        return transitionsBySource.getOrDefault(sourceState, List.of());
+    }
+
+    private List<Transition> findPermittedTransitions(String state, CaseData caseData) {
+        List<Transition> transitions = getTransitions(state);
+        List<Transition> permittedTransitions = new ArrayList<>(transitions.size());
+        for (Transition transition : transitions) {
+            if (transition.getCondition() == null || transition.getCondition().test(caseData)) {
+                permittedTransitions.add(transition);
+            }
+        }
+        return permittedTransitions;
+    }
+
+    private String toPermittedStates(List<Transition> permittedTransitions) {
+        return permittedTransitions.stream()
+            .map(Transition::getTargetState)
+            .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,43 @@
+package uk.gov.hmcts.reform.unspec.stateflow;
+
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.stateflow.exception.StateFlowException;
+import uk.gov.hmcts.reform.unspec.stateflow.model.State;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Result of evaluating a case against a {@link CompiledStateFlow}. It is not backed by a state machine,
+ * evaluating it again returns a new result rather than mutating this one.
+ */
+class EvaluatedStateFlow extends StateFlow {
+
+    private final CompiledStateFlow compiledStateFlow;
+    private final List<String> history;
+    private final boolean ambiguous;
+
+    EvaluatedStateFlow(CompiledStateFlow compiledStateFlow, List<String> history, boolean ambiguous) {
+        this.compiledStateFlow = compiledStateFlow;
+        this.history = List.copyOf(history);
+        this.ambiguous = ambiguous;
+    }
+
+    @Override
+    public StateFlow evaluate(CaseData caseData) {
+        return compiledStateFlow.evaluate(caseData);
+    }
+
+    @Override
+    public State getState() {
+        if (ambiguous) {
+            throw new StateFlowException("The state machine is at error state.");
+        }
+        return State.from(history.get(history.size() - 1));
+    }
+
+    @Override
+    public List<State> getStateHistory() {
+        return history.stream().map(State::from).collect(Collectors.toList());
+    }
+}
@@ -34,6 +34,7 @@ import static uk.gov.hmcts.reform.unspec.stateflow.StateFlowContext.EXTENDED_STA
  * Once created a StateFlow can:
  * - evaluate the current state of a Case
  * - return the internal state engine for further processing
+ * Alternatively the flow can be compiled into an immutable transition table which is built once and reused.
  */
 public class StateFlowBuilder<S> {
 
@@ -172,7 +173,7 @@ public class StateFlowBuilder<S> {
         }
 
         @Override
-        public StateFlow build() {
+        public StateMachineStateFlow build() {
             StateMachineBuilder.Builder<String, String> stateMachineBuilder =
                 StateMachineBuilder.builder();
 
@@ -212,7 +213,12 @@ public class StateFlowBuilder<S> {
             StateMachine<String, String> stateMachine = stateMachineBuilder.build();
             stateMachine.addStateListener(new StateFlowListener());
 
-            return new StateFlow(stateMachine);
+            return new StateMachineStateFlow(stateMachine);
+        }
+
+        @Override
+        public CompiledStateFlow compile() {
+            return new CompiledStateFlow(stateFlowContext);
         }
 
         private String fullyQualified(S state) {
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.unspec.stateflow;
+
+import uk.gov.hmcts.reform.unspec.stateflow.exception.StateFlowException;
+import uk.gov.hmcts.reform.unspec.stateflow.model.State;
+
+import java.util.Objects;
+import java.util.Optional;
+
+public class StateFlowConformance {
+
+    private StateFlowConformance() {
+        //Utility class
+    }
+
+    /**
+     * Compares the results of two evaluations of the same case by different backends.
+     *
+     * @param expected the result of the reference backend
+     * @param actual   the result of the backend being verified
+     * @return the expected result when both backends agree
+     * @throws StateFlowException when state or state history diverge
+     */
+    public static StateFlow verify(StateFlow expected, StateFlow actual) {
+        Optional<State> expectedState = findState(expected);
+        Optional<State> actualState = findState(actual);
+
+        if (!Objects.equals(expected.getStateHistory(), actual.getStateHistory())
+            || !expectedState.equals(actualState)) {
+            throw new StateFlowException(String.format(
+                "StateFlow evaluation diverged, expected state [%s] with history %s but was [%s] with history %s.",
+                expectedState.map(State::getName).orElse(State.ERROR_STATE), expected.getStateHistory(),
+                actualState.map(State::getName).orElse(State.ERROR_STATE), actual.getStateHistory()
+            ));
+        }
+        return expected;
+    }
+
+    private static Optional<State> findState(StateFlow stateFlow) {
+        try {
+            return Optional.of(stateFlow.getState());
+        } catch (StateFlowException e) {
+            return Optional.empty();
+        }
+    }
+}
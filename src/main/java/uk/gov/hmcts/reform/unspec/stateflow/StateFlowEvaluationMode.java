@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.unspec.stateflow;
+
+/**
+ * Selects the backend used to evaluate a case against a state flow.
+ * - STATE_MACHINE builds and starts a Spring State Machine for every evaluation
+ * - COMPILED walks the immutable transition table of a {@link CompiledStateFlow}
+ * - CONFORMANCE runs both and fails when their results diverge
+ */
+public enum StateFlowEvaluationMode {
+    STATE_MACHINE,
+    COMPILED,
+    CONFORMANCE
+}
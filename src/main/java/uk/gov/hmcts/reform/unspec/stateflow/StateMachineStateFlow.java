@@ -0,0 +1,54 @@
+package uk.gov.hmcts.reform.unspec.stateflow;
+
+import org.springframework.statemachine.StateMachine;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.stateflow.exception.StateFlowException;
+import uk.gov.hmcts.reform.unspec.stateflow.model.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static uk.gov.hmcts.reform.unspec.stateflow.StateFlowContext.EXTENDED_STATE_CASE_KEY;
+import static uk.gov.hmcts.reform.unspec.stateflow.StateFlowContext.EXTENDED_STATE_HISTORY_KEY;
+
+/**
+ * {@link StateFlow} backed by a state machine. Evaluating it starts the state machine with the case, so an instance
+ * must not be evaluated by more than one caller.
+ */
+public class StateMachineStateFlow extends StateFlow {
+
+    private StateMachine<String, String> stateMachine;
+
+    public StateMachineStateFlow(StateMachine<String, String> stateMachine) {
+        this.stateMachine = stateMachine;
+    }
+
+    public StateMachine<String, String> asStateMachine() {
+        return stateMachine;
+    }
+
+    @Override
+    public StateMachineStateFlow evaluate(CaseData caseData) {
+        Map<Object, Object> variables = stateMachine.getExtendedState().getVariables();
+        variables.put(EXTENDED_STATE_CASE_KEY, caseData);
+        stateMachine.startReactively().block();
+        return this;
+    }
+
+    @Override
+    public State getState() {
+        if (stateMachine.hasStateMachineError()) {
+            throw new StateFlowException("The state machine is at error state.");
+        }
+        return State.from(stateMachine.getState().getId());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<State> getStateHistory() {
+        List<String> historyList = stateMachine.getExtendedState().get(EXTENDED_STATE_HISTORY_KEY, ArrayList.class);
+        return historyList.stream().map(State::from).collect(Collectors.toList());
+    }
+}
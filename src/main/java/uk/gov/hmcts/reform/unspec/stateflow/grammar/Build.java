@@ -1,11 +1,14 @@
 package uk.gov.hmcts.reform.unspec.stateflow.grammar;
 
-import uk.gov.hmcts.reform.unspec.stateflow.StateFlow;
+import uk.gov.hmcts.reform.unspec.stateflow.CompiledStateFlow;
+import uk.gov.hmcts.reform.unspec.stateflow.StateMachineStateFlow;
 
 /**
  * Represents the BUILD clause.
  */
 public interface Build {
 
-    StateFlow build();
+    StateMachineStateFlow build();
+
+    CompiledStateFlow compile();
 }
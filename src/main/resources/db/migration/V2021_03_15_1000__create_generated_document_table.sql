@@ -0,0 +1,11 @@
+/**
+ * Documents already rendered and uploaded for a case, so a retried generation can reuse them.
+ */
+CREATE TABLE generated_document (
+  case_reference     BIGINT      NOT NULL,
+  template           TEXT        NOT NULL,
+  template_data_hash TEXT        NOT NULL,
+  case_document      JSONB       NOT NULL,
+  created_on         TIMESTAMP   NOT NULL DEFAULT now(),
+  PRIMARY KEY (case_reference, template, template_data_hash)
+);
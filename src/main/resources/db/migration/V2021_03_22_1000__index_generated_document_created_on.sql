@@ -0,0 +1,4 @@
+/**
+ * Generated documents are deleted once older than their retention, by creation time.
+ */
+CREATE INDEX generated_document_created_on_idx ON generated_document (created_on);
@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.unspec.callback;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CallbackParamsTest {
+
+    @Test
+    void shouldNotConvertCaseData_untilFirstAccessed() {
+        AtomicInteger conversions = new AtomicInteger();
+        CaseData caseData = CaseData.builder().legacyCaseReference("000LR001").build();
+
+        CallbackParams callbackParams = CallbackParams.builder()
+            .caseDataSupplier(() -> {
+                conversions.incrementAndGet();
+                return caseData;
+            })
+            .build();
+
+        assertThat(conversions).hasValue(0);
+        assertThat(callbackParams.getCaseData()).isSameAs(caseData);
+        assertThat(callbackParams.getCaseData()).isSameAs(caseData);
+        assertThat(conversions).hasValue(1);
+    }
+
+    @Test
+    void shouldPreferEagerCaseData_whenBothProvided() {
+        CaseData caseData = CaseData.builder().legacyCaseReference("000LR001").build();
+
+        CallbackParams callbackParams = CallbackParams.builder()
+            .caseData(caseData)
+            .caseDataSupplier(() -> CaseData.builder().build())
+            .build();
+
+        assertThat(callbackParams.getCaseData()).isSameAs(caseData);
+    }
+}
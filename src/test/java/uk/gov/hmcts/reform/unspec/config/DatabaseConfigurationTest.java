@@ -4,6 +4,7 @@ import org.jdbi.v3.core.Jdbi;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import uk.gov.hmcts.reform.unspec.repositories.GeneratedDocumentRepository;
 import uk.gov.hmcts.reform.unspec.repositories.ReferenceNumberRepository;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -20,6 +21,7 @@ class DatabaseConfigurationTest {
             assertThat(it).hasSingleBean(DataSourceTransactionManager.class);
             assertThat(it).hasSingleBean(Jdbi.class);
             assertThat(it).hasSingleBean(ReferenceNumberRepository.class);
+            assertThat(it).hasSingleBean(GeneratedDocumentRepository.class);
             assertThat(it).hasBean("dataSource");
             assertThat(it).hasBean("dataSourceProxy");
         });
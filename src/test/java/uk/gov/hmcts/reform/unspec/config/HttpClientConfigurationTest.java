@@ -0,0 +1,88 @@
+package uk.gov.hmcts.reform.unspec.config;
+
+import feign.Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.reform.unspec.config.properties.http.HttpClientProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpClientConfigurationTest {
+
+    private static final HttpRoute CCD_DATA_STORE = new HttpRoute(new HttpHost("ccd-data-store-api", 4452, "http"));
+    private static final HttpRoute DOCMOSIS = new HttpRoute(new HttpHost("docmosis", 443, "https"), null, true);
+
+    ApplicationContextRunner context = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+        .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+        .withUserConfiguration(HttpClientConfiguration.class)
+        .withPropertyValues(
+            "http.client.feign.max-total=200",
+            "http.client.feign.max-per-route=50",
+            "http.client.feign.max-per-downstream[http://ccd-data-store-api:4452]=100",
+            "http.client.docmosis.max-total=20",
+            "http.client.docmosis.max-per-route=10",
+            "http.client.document-management.max-total=30",
+            "http.client.document-management.max-per-route=30"
+        );
+
+    @Test
+    void shouldBindPropertiesOfEachClient() {
+        context.run(it -> {
+            assertThat(it.getBean("feignHttpClientProperties", HttpClientProperties.class))
+                .extracting(HttpClientProperties::getMaxTotal, HttpClientProperties::getMaxPerRoute)
+                .containsExactly(200, 50);
+            assertThat(it.getBean("docmosisHttpClientProperties", HttpClientProperties.class))
+                .extracting(HttpClientProperties::getMaxTotal, HttpClientProperties::getMaxPerRoute)
+                .containsExactly(20, 10);
+        });
+    }
+
+    @Test
+    void shouldLimitFeignConnections_withFeignProperties() {
+        context.run(it -> {
+            assertThat(it).hasSingleBean(Client.class);
+            PoolingHttpClientConnectionManager connectionManager = it.getBean(HttpClientConfiguration.class)
+                .connectionManager("feign");
+
+            assertThat(connectionManager.getMaxTotal()).isEqualTo(200);
+            assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(50);
+            assertThat(connectionManager.getMaxPerRoute(CCD_DATA_STORE)).isEqualTo(100);
+            assertThat(connectionManager.getMaxPerRoute(DOCMOSIS)).isEqualTo(50);
+        });
+    }
+
+    @Test
+    void shouldLimitDocmosisConnections_withDocmosisProperties() {
+        context.run(it -> {
+            assertThat(it.getBean(RestTemplate.class)).isSameAs(it.getBean("restTemplate"));
+            PoolingHttpClientConnectionManager connectionManager = it.getBean(HttpClientConfiguration.class)
+                .connectionManager("docmosis");
+
+            assertThat(connectionManager.getMaxTotal()).isEqualTo(20);
+            assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(10);
+            assertThat(connectionManager.getMaxPerRoute(DOCMOSIS)).isEqualTo(10);
+            assertThat(connectionManager.getMaxPerRoute(CCD_DATA_STORE)).isEqualTo(10);
+        });
+    }
+
+    @Test
+    void shouldLimitDocumentManagementConnections_withDocumentManagementProperties() {
+        context.run(it -> {
+            assertThat(it).hasBean("documentManagementRestTemplate");
+            PoolingHttpClientConnectionManager connectionManager = it.getBean(HttpClientConfiguration.class)
+                .connectionManager("document-management");
+
+            assertThat(connectionManager.getMaxTotal()).isEqualTo(30);
+            assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(30);
+        });
+    }
+}
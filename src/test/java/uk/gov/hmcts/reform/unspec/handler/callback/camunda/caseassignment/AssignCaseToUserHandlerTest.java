@@ -19,10 +19,12 @@ import uk.gov.hmcts.reform.unspec.handler.callback.BaseCallbackHandlerTest;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.model.CaseRoleAssignment;
 import uk.gov.hmcts.reform.unspec.model.IdamUserDetails;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.unspec.service.CoreCaseUserService;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -74,17 +76,11 @@ class AssignCaseToUserHandlerTest extends BaseCallbackHandlerTest {
 
         assignCaseToUserHandler.handle(params);
 
-        verify(coreCaseUserService).assignCase(
-            caseData.getCcdCaseReference().toString(),
-            caseData.getApplicantSolicitor1UserDetails().getId(),
-            "OrgId1",
-            CaseRole.APPLICANTSOLICITORONE
-        );
-
-        verify(coreCaseUserService).removeCreatorRoleCaseAssignment(
-            caseData.getCcdCaseReference().toString(),
-            caseData.getApplicantSolicitor1UserDetails().getId(),
-            "OrgId1"
+        String caseId = caseData.getCcdCaseReference().toString();
+        String submitterId = caseData.getApplicantSolicitor1UserDetails().getId();
+        verify(coreCaseUserService).reconcileCaseRoles(
+            List.of(new CaseRoleAssignment(caseId, submitterId, "OrgId1", CaseRole.APPLICANTSOLICITORONE)),
+            List.of(new CaseRoleAssignment(caseId, submitterId, "OrgId1", CaseRole.CREATOR))
         );
     }
 
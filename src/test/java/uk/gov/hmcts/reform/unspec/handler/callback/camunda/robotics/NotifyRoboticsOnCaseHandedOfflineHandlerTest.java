@@ -1,10 +1,14 @@
 package uk.gov.hmcts.reform.unspec.handler.callback.camunda.robotics;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.networknt.schema.ValidationMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -16,12 +20,14 @@ import uk.gov.hmcts.reform.prd.client.OrganisationApi;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.config.PrdAdminUserConfiguration;
 import uk.gov.hmcts.reform.unspec.handler.callback.BaseCallbackHandlerTest;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataDeltaMapper;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.sampledata.CallbackParamsBuilder;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.unspec.service.OrganisationService;
 import uk.gov.hmcts.reform.unspec.service.Time;
+import uk.gov.hmcts.reform.unspec.service.UserTokenCache;
 import uk.gov.hmcts.reform.unspec.service.flowstate.StateFlowEngine;
 import uk.gov.hmcts.reform.unspec.service.robotics.JsonSchemaValidationService;
 import uk.gov.hmcts.reform.unspec.service.robotics.RoboticsNotificationService;
@@ -33,11 +39,13 @@ import uk.gov.hmcts.reform.unspec.service.robotics.mapper.RoboticsDataMapper;
 import java.time.LocalDateTime;
 import java.util.Set;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.LocalDateTime.now;
 import static java.time.format.DateTimeFormatter.ISO_DATE_TIME;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -50,9 +58,11 @@ import static uk.gov.hmcts.reform.unspec.callback.CallbackType.ABOUT_TO_SUBMIT;
     RoboticsAddressMapper.class,
     EventHistoryMapper.class,
     JacksonAutoConfiguration.class,
+    CaseDataDeltaMapper.class,
     CaseDetailsConverter.class,
     StateFlowEngine.class,
-    OrganisationService.class
+    OrganisationService.class,
+    SimpleMeterRegistry.class
 })
 @ExtendWith(SpringExtension.class)
 class NotifyRoboticsOnCaseHandedOfflineHandlerTest extends BaseCallbackHandlerTest {
@@ -68,6 +78,8 @@ class NotifyRoboticsOnCaseHandedOfflineHandlerTest extends BaseCallbackHandlerTe
     @MockBean
     IdamClient idamClient;
     @MockBean
+    UserTokenCache userTokenCache;
+    @MockBean
     PrdAdminUserConfiguration userConfig;
 
     @Nested
@@ -82,6 +94,10 @@ class NotifyRoboticsOnCaseHandedOfflineHandlerTest extends BaseCallbackHandlerTe
 
         @Autowired
         private NotifyRoboticsOnCaseHandedOfflineHandler handler;
+        @Autowired
+        private JsonSchemaValidationService validationService;
+        @Captor
+        private ArgumentCaptor<byte[]> roboticsJsonCaptor;
 
         @Test
         void shouldNotifyRobotics_whenNoSchemaErrors() {
@@ -91,7 +107,9 @@ class NotifyRoboticsOnCaseHandedOfflineHandlerTest extends BaseCallbackHandlerTe
             AboutToStartOrSubmitCallbackResponse response =
                 (AboutToStartOrSubmitCallbackResponse) handler.handle(params);
 
-            verify(roboticsNotificationService).notifyRobotics(caseData);
+            verify(roboticsNotificationService)
+                .notifyRobotics(eq(caseData.getLegacyCaseReference()), roboticsJsonCaptor.capture());
+            assertThat(validationService.isValid(new String(roboticsJsonCaptor.getValue(), UTF_8))).isTrue();
 
             assertThat(response.getData()).containsEntry("takenOfflineDate", takenOfflineDate.format(ISO_DATE_TIME));
         }
@@ -107,7 +125,8 @@ class NotifyRoboticsOnCaseHandedOfflineHandlerTest extends BaseCallbackHandlerTe
 
         @Test
         void shouldThrowJsonSchemaValidationException_whenSchemaErrors() {
-            when(validationService.validate(anyString())).thenReturn(Set.of(new ValidationMessage.Builder().build()));
+            when(validationService.validate(any(JsonNode.class)))
+                .thenReturn(Set.of(new ValidationMessage.Builder().build()));
             CaseData caseData = CaseDataBuilder.builder().atStateProceedsOfflineAdmissionOrCounterClaim().build();
             CallbackParams params = CallbackParamsBuilder.builder().of(ABOUT_TO_SUBMIT, caseData).build();
 
@@ -10,6 +10,7 @@ import uk.gov.hmcts.reform.ccd.client.model.SubmittedCallbackResponse;
 import uk.gov.hmcts.reform.unspec.callback.CallbackParams;
 import uk.gov.hmcts.reform.unspec.callback.CallbackType;
 import uk.gov.hmcts.reform.unspec.handler.callback.BaseCallbackHandlerTest;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDataDeltaMapper;
 import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
@@ -21,6 +22,7 @@ import static uk.gov.hmcts.reform.unspec.callback.CaseEvent.RETRY_NOTIFY_RPA_ON_
 @SpringBootTest(classes = {
     ResetRpaNotificationBusinessProcessHandler.class,
     JacksonAutoConfiguration.class,
+    CaseDataDeltaMapper.class,
     CaseDetailsConverter.class
 })
 class ResetRpaNotificationBusinessProcessHandlerTest extends BaseCallbackHandlerTest {
@@ -28,6 +28,7 @@ import uk.gov.hmcts.reform.unspec.service.flowstate.StateFlowEngine;
 
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -97,6 +98,22 @@ class CaseEventTaskHandlerTest {
         verify(externalTaskService).complete(mockTask, getVariableMap("MAIN.DRAFT"));
     }
 
+    @Test
+    void shouldReturnFlowStateOfSubmittedCase_whenTaskHandled() {
+        CaseData caseData = new CaseDataBuilder().atStateClaimDraft()
+            .businessProcess(BusinessProcess.builder().status(BusinessProcessStatus.READY).build())
+            .build();
+        CaseData submittedCaseData = new CaseDataBuilder().atStateClaimCreated().build();
+
+        when(coreCaseDataService.startUpdate(CASE_ID, NOTIFY_RESPONDENT_SOLICITOR1_FOR_CLAIM_ISSUE))
+            .thenReturn(StartEventResponse.builder()
+                            .caseDetails(CaseDetailsBuilder.builder().data(caseData).build())
+                            .build());
+        when(coreCaseDataService.submitUpdate(eq(CASE_ID), any(CaseDataContent.class))).thenReturn(submittedCaseData);
+
+        assertThat(caseEventTaskHandler.handleTask(mockTask)).isEqualTo(getVariableMap("MAIN.CLAIM_ISSUED"));
+    }
+
     @Test
     void shouldCallHandleFailureMethod_whenExceptionFromBusinessLogic() {
         String errorMessage = "there was an error";
@@ -14,8 +14,8 @@ import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
 import uk.gov.hmcts.reform.unspec.service.EventEmitterService;
 import uk.gov.hmcts.reform.unspec.service.search.CaseReadyBusinessProcessSearchService;
 
-import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -44,9 +44,6 @@ class PollingEventEmitterHandlerTest {
     @MockBean
     private EventEmitterService eventEmitterService;
 
-    @Autowired
-    private CaseDetailsConverter caseDetailsConverter;
-
     @Autowired
     private PollingEventEmitterHandler pollingEventEmitterHandler;
 
@@ -62,12 +59,12 @@ class PollingEventEmitterHandlerTest {
             Map.of("businessProcess", businessProcessWithCamundaEvent("TEST_EVENT2"))).build();
         caseDetails3 = CaseDetails.builder().id(3L).data(
             Map.of("businessProcess", businessProcessWithCamundaEvent("TEST_EVENT3"))).build();
-        when(searchService.getCases()).thenReturn(List.of(caseDetails1, caseDetails2, caseDetails3));
+        when(searchService.getCases()).thenReturn(Stream.of(caseDetails1, caseDetails2, caseDetails3));
     }
 
     @Test
     void shouldNotSendMessageAndTriggerEvent_whenZeroCasesFound() {
-        when(searchService.getCases()).thenReturn(List.of());
+        when(searchService.getCases()).thenReturn(Stream.empty());
 
         pollingEventEmitterHandler.execute(externalTask, externalTaskService);
 
@@ -82,15 +79,18 @@ class PollingEventEmitterHandlerTest {
 
         verify(searchService).getCases();
         verify(eventEmitterService).emitBusinessProcessCamundaEvent(
-            caseDetailsConverter.toCaseData(caseDetails1),
+            1L,
+            businessProcessWithCamundaEvent("TEST_EVENT1"),
             true
         );
         verify(eventEmitterService).emitBusinessProcessCamundaEvent(
-            caseDetailsConverter.toCaseData(caseDetails2),
+            2L,
+            businessProcessWithCamundaEvent("TEST_EVENT2"),
             true
         );
         verify(eventEmitterService).emitBusinessProcessCamundaEvent(
-            caseDetailsConverter.toCaseData(caseDetails3),
+            3L,
+            businessProcessWithCamundaEvent("TEST_EVENT3"),
             true
         );
         verify(externalTaskService).complete(externalTask);
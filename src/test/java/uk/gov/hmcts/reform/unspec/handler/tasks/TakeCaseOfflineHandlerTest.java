@@ -1,21 +1,26 @@
 package uk.gov.hmcts.reform.unspec.handler.tasks;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.camunda.bpm.client.exception.NotFoundException;
 import org.camunda.bpm.client.task.ExternalTask;
 import org.camunda.bpm.client.task.ExternalTaskService;
+import org.camunda.bpm.engine.variable.Variables;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.unspec.event.TakeCaseOfflineEvent;
+import uk.gov.hmcts.reform.unspec.service.BulkEventDispatcher;
 import uk.gov.hmcts.reform.unspec.service.search.TakeCaseOfflineSearchService;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -43,6 +48,9 @@ class TakeCaseOfflineHandlerTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
+    @Spy
+    private BulkEventDispatcher bulkEventDispatcher = new BulkEventDispatcher(new SimpleMeterRegistry(), 2, 1000);
+
     @InjectMocks
     private TakeCaseOfflineHandler handler;
 
@@ -58,21 +66,70 @@ class TakeCaseOfflineHandlerTest {
         Map<String, Object> data = Map.of("data", "some data");
         List<CaseDetails> caseDetails = List.of(CaseDetails.builder().id(caseId).data(data).build());
 
-        when(searchService.getCases()).thenReturn(caseDetails);
+        when(searchService.getCases()).thenReturn(caseDetails.stream());
 
         handler.execute(mockTask, externalTaskService);
 
         verify(applicationEventPublisher).publishEvent(new TakeCaseOfflineEvent(caseId));
-        verify(externalTaskService).complete(mockTask);
+        verify(externalTaskService).complete(
+            mockTask,
+            Variables.createVariables().putValue("totalCases", 1L).putValue("failedCases", 0L)
+        );
     }
 
     @Test
     void shouldNotEmitTakeCaseOfflineEvent_WhenNoCasesFound() {
-        when(searchService.getCases()).thenReturn(List.of());
+        when(searchService.getCases()).thenReturn(Stream.empty());
 
         handler.execute(mockTask, externalTaskService);
 
         verifyNoInteractions(applicationEventPublisher);
+        verify(externalTaskService).complete(
+            mockTask,
+            Variables.createVariables().putValue("totalCases", 0L).putValue("failedCases", 0L)
+        );
+    }
+
+    @Test
+    void shouldCompleteWithFailedCount_whenSomeCasesFail() {
+        List<CaseDetails> caseDetails = List.of(
+            CaseDetails.builder().id(1L).build(),
+            CaseDetails.builder().id(2L).build()
+        );
+
+        when(searchService.getCases()).thenReturn(caseDetails.stream());
+        doThrow(new IllegalStateException("CCD down"))
+            .when(applicationEventPublisher).publishEvent(new TakeCaseOfflineEvent(2L));
+
+        handler.execute(mockTask, externalTaskService);
+
+        verify(externalTaskService).complete(
+            mockTask,
+            Variables.createVariables().putValue("totalCases", 2L).putValue("failedCases", 1L)
+        );
+    }
+
+    @Test
+    void shouldCallHandleFailureMethod_whenEveryCaseFails() {
+        List<CaseDetails> caseDetails = List.of(
+            CaseDetails.builder().id(1L).build(),
+            CaseDetails.builder().id(2L).build()
+        );
+
+        when(mockTask.getRetries()).thenReturn(null);
+        when(searchService.getCases()).thenReturn(caseDetails.stream());
+        doThrow(new IllegalStateException("CCD down")).when(applicationEventPublisher).publishEvent(any(Object.class));
+
+        handler.execute(mockTask, externalTaskService);
+
+        verify(externalTaskService, never()).complete(eq(mockTask), any());
+        verify(externalTaskService).handleFailure(
+            eq(mockTask),
+            eq("Failed for all 2 case(s)"),
+            anyString(),
+            eq(2),
+            eq(500L)
+        );
     }
 
     @Test
@@ -100,7 +157,7 @@ class TakeCaseOfflineHandlerTest {
     void shouldNotCallHandleFailureMethod_whenExceptionOnCompleteCall() {
         String errorMessage = "there was an error";
 
-        doThrow(new NotFoundException(errorMessage)).when(externalTaskService).complete(mockTask);
+        doThrow(new NotFoundException(errorMessage)).when(externalTaskService).complete(eq(mockTask), any());
 
         handler.execute(mockTask, externalTaskService);
 
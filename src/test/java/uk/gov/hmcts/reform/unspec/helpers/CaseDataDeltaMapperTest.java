@@ -0,0 +1,95 @@
+package uk.gov.hmcts.reform.unspec.helpers;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.model.dq.Hearing;
+import uk.gov.hmcts.reform.unspec.model.dq.Respondent1DQ;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaseDataDeltaMapperTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+        .serializationInclusion(JsonInclude.Include.NON_EMPTY)
+        .build();
+    private final CaseDataDeltaMapper caseDataDeltaMapper = new CaseDataDeltaMapper(objectMapper);
+
+    private final CaseData caseData = CaseDataBuilder.builder().atStateClaimCreated().build();
+
+    @Test
+    void shouldReturnOriginalData_whenNothingChanged() {
+        Map<String, Object> data = dataOf(caseData);
+
+        Map<String, Object> merged = caseDataDeltaMapper.toMap(data, caseData, caseData.toBuilder().build());
+
+        assertThat(merged).isEqualTo(data).isNotSameAs(data);
+    }
+
+    @Test
+    void shouldOnlyReplaceChangedFields_whenFieldUpdated() {
+        LocalDateTime takenOfflineDate = LocalDateTime.of(2020, 11, 5, 10, 15);
+        Map<String, Object> data = dataOf(caseData);
+        data.put("fieldUnknownToCaseData", "kept");
+
+        Map<String, Object> merged = caseDataDeltaMapper.toMap(
+            data,
+            caseData,
+            caseData.toBuilder().takenOfflineDate(takenOfflineDate).build()
+        );
+
+        assertThat(merged)
+            .containsEntry("takenOfflineDate", "2020-11-05T10:15:00")
+            .containsEntry("fieldUnknownToCaseData", "kept");
+        assertThat(merged).isEqualTo(dataOf(caseData.toBuilder().takenOfflineDate(takenOfflineDate).build(), data));
+    }
+
+    @Test
+    void shouldRemoveField_whenFieldCleared() {
+        Map<String, Object> data = dataOf(caseData);
+
+        Map<String, Object> merged = caseDataDeltaMapper.toMap(
+            data,
+            caseData,
+            caseData.toBuilder().legacyCaseReference(null).build()
+        );
+
+        assertThat(data).containsKey("legacyCaseReference");
+        assertThat(merged).doesNotContainKey("legacyCaseReference");
+    }
+
+    @Test
+    void shouldMergeUnwrappedFields_whenUnwrappedPropertyUpdated() {
+        CaseData original = caseData.toBuilder()
+            .respondent1DQ(Respondent1DQ.builder()
+                               .respondent1DQHearing(Hearing.builder().hearingLengthDays("2").build())
+                               .build())
+            .build();
+        CaseData updated = original.toBuilder()
+            .respondent1DQ(Respondent1DQ.builder()
+                               .respondent1DQHearing(Hearing.builder().hearingLengthHours("5").build())
+                               .build())
+            .build();
+
+        Map<String, Object> merged = caseDataDeltaMapper.toMap(dataOf(original), original, updated);
+
+        assertThat(merged).isEqualTo(dataOf(updated));
+    }
+
+    private Map<String, Object> dataOf(CaseData caseData) {
+        return new HashMap<>(caseData.toMap(objectMapper));
+    }
+
+    private Map<String, Object> dataOf(CaseData caseData, Map<String, Object> extra) {
+        Map<String, Object> data = new HashMap<>(extra);
+        data.putAll(caseData.toMap(objectMapper));
+        return data;
+    }
+}
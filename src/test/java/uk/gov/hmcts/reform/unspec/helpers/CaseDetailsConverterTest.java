@@ -0,0 +1,122 @@
+package uk.gov.hmcts.reform.unspec.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.unspec.model.BusinessProcess;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDetailsBuilder;
+import uk.gov.hmcts.reform.unspec.service.flowstate.FlowState;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.hmcts.reform.unspec.enums.BusinessProcessStatus.READY;
+import static uk.gov.hmcts.reform.unspec.enums.CaseState.CASE_ISSUED;
+
+class CaseDetailsConverterTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final CaseDetailsConverter caseDetailsConverter = new CaseDetailsConverter(objectMapper);
+
+    @Nested
+    class FromCaseDetails {
+
+        @ParameterizedTest
+        @EnumSource(FlowState.Main.class)
+        void shouldConvertSameAsConvertValue_whenCaseAtState(FlowState.Main flowState) {
+            CaseData caseData = CaseDataBuilder.builder().atState(flowState).build();
+            CaseDetails caseDetails = CaseDetailsBuilder.builder().data(caseData).id(1L).state(CASE_ISSUED).build();
+
+            Map<String, Object> data = new HashMap<>(caseDetails.getData());
+            data.put("ccdCaseReference", 1L);
+            data.put("ccdState", CASE_ISSUED);
+
+            assertThat(caseDetailsConverter.toCaseData(caseDetails))
+                .isEqualTo(objectMapper.convertValue(data, CaseData.class));
+        }
+
+        @Test
+        void shouldOverrideCaseReferenceAndState_whenPresentInData() {
+            CaseDetails caseDetails = CaseDetails.builder()
+                .id(2L)
+                .state(CASE_ISSUED.name())
+                .data(Map.of("ccdCaseReference", 1L, "ccdState", "PENDING_CASE_ISSUED", "legacyCaseReference", "000LR001"))
+                .build();
+
+            CaseData caseData = caseDetailsConverter.toCaseData(caseDetails);
+
+            assertThat(caseData.getCcdCaseReference()).isEqualTo(2L);
+            assertThat(caseData.getCcdState()).isEqualTo(CASE_ISSUED);
+            assertThat(caseData.getLegacyCaseReference()).isEqualTo("000LR001");
+        }
+
+        @Test
+        void shouldClearCaseReference_whenCaseDetailsHasNoId() {
+            CaseDetails caseDetails = CaseDetails.builder()
+                .data(Map.of("ccdCaseReference", 1L))
+                .build();
+
+            assertThat(caseDetailsConverter.toCaseData(caseDetails).getCcdCaseReference()).isNull();
+        }
+    }
+
+    @Nested
+    class FromMap {
+
+        @Test
+        void shouldKeepCaseReference_whenPresentInData() {
+            CaseData caseData = caseDetailsConverter.toCaseData(Map.of("ccdCaseReference", 1L));
+
+            assertThat(caseData.getCcdCaseReference()).isEqualTo(1L);
+        }
+
+        @Test
+        void shouldIgnoreEmptyValues() {
+            Map<String, Object> data = new HashMap<>();
+            data.put("legacyCaseReference", "");
+            data.put("respondentSolicitor1EmailAddress", null);
+            data.put("systemGeneratedCaseDocuments", List.of());
+            data.put("applicant1", Map.of());
+
+            assertThat(caseDetailsConverter.toCaseData(data)).isEqualTo(CaseData.builder().build());
+        }
+
+        @Test
+        void shouldThrowIllegalArgumentException_whenValueCannotBeRead() {
+            Map<String, Object> data = Map.of("ccdState", "NOT_A_STATE");
+
+            assertThrows(IllegalArgumentException.class, () -> caseDetailsConverter.toCaseData(data));
+        }
+    }
+
+    @Nested
+    class ToBusinessProcess {
+
+        @Test
+        void shouldReadBusinessProcessOnly() {
+            CaseData caseData = CaseDataBuilder.builder().atStateClaimCreated()
+                .businessProcess(BusinessProcess.builder().status(READY).camundaEvent("CREATE_CLAIM").build())
+                .build();
+            CaseDetails caseDetails = CaseDetailsBuilder.builder().data(caseData).build();
+
+            assertThat(caseDetailsConverter.toBusinessProcess(caseDetails))
+                .isEqualTo(BusinessProcess.builder().status(READY).camundaEvent("CREATE_CLAIM").build());
+        }
+
+        @Test
+        void shouldReturnNull_whenNoBusinessProcess() {
+            CaseDetails caseDetails = CaseDetails.builder().data(Map.of("legacyCaseReference", "000LR001")).build();
+
+            assertThat(caseDetailsConverter.toBusinessProcess(caseDetails)).isNull();
+        }
+    }
+}
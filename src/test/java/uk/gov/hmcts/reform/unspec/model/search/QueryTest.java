@@ -14,30 +14,55 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 class QueryTest {
 
     public static final String EXPECTED_QUERY =
-        "{\"query\": {\"match_all\": {\"boost\": 1.0 }}, \"_source\": [\"reference\",\"other field\"], \"from\": 0}";
+        "{\"query\": {\"match_all\": {\"boost\": 1.0 }}, \"_source\": [\"reference\",\"other field\"], "
+            + "\"size\": 100, \"sort\": [{\"reference.keyword\": \"asc\"}]}";
 
     @Test
-    void shouldThrowException_WhenIndexLessThan0() {
-        MatchQueryBuilder matchQuery = QueryBuilders.matchQuery("field", "value");
+    void shouldThrowException_WhenQueryIsNull() {
         List<String> emptyList = List.of();
 
-        assertThrows(IllegalArgumentException.class, () -> new Query(matchQuery, emptyList, -1),
-                     "Start index cannot be less than 0"
+        assertThrows(NullPointerException.class, () -> Query.pageAfter(null, emptyList, 100, null),
+                     "QueryBuilder cannot be null in search"
         );
     }
 
     @Test
-    void shouldThrowException_WhenQueryIsNull() {
+    void shouldThrowException_WhenPageSizeLessThan1() {
+        MatchQueryBuilder matchQuery = QueryBuilders.matchQuery("field", "value");
         List<String> emptyList = List.of();
 
-        assertThrows(NullPointerException.class, () -> new Query(null, emptyList, 0),
-                     "QueryBuilder cannot be null in search"
+        assertThrows(IllegalArgumentException.class, () -> Query.pageAfter(matchQuery, emptyList, 0, null),
+                     "Size cannot be less than 1"
+        );
+    }
+
+    @Test
+    void shouldSortByReference_whenFirstPage() throws JSONException {
+        Query query = Query.pageAfter(matchAllQuery(), List.of("reference"), 100, null);
+
+        JSONAssert.assertEquals(
+            "{\"query\": {\"match_all\": {\"boost\": 1.0 }}, \"_source\": [\"reference\"], \"size\": 100, "
+                + "\"sort\": [{\"reference.keyword\": \"asc\"}]}",
+            query.toString(),
+            true
+        );
+    }
+
+    @Test
+    void shouldSearchAfterReference_whenNextPage() throws JSONException {
+        Query query = Query.pageAfter(matchAllQuery(), List.of("reference"), 100, 1594901956117591L);
+
+        JSONAssert.assertEquals(
+            "{\"query\": {\"match_all\": {\"boost\": 1.0 }}, \"_source\": [\"reference\"], \"size\": 100, "
+                + "\"sort\": [{\"reference.keyword\": \"asc\"}], \"search_after\": [\"1594901956117591\"]}",
+            query.toString(),
+            true
         );
     }
 
     @Test
     void shouldFormatSourceInCorrectFormat_whenListOfItems() throws JSONException {
-        Query query = new Query(matchAllQuery(), List.of("reference", "other field"), 0);
+        Query query = Query.pageAfter(matchAllQuery(), List.of("reference", "other field"), 100, null);
 
         JSONAssert.assertEquals(EXPECTED_QUERY, query.toString(), true);
     }
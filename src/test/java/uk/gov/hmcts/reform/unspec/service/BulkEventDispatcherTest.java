@@ -0,0 +1,131 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BulkEventDispatcherTest {
+
+    private static final String JOB = "CASE_DISMISSED";
+    private static final int PARALLELISM = 3;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BulkEventDispatcher bulkEventDispatcher = new BulkEventDispatcher(meterRegistry, PARALLELISM, 1000);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        bulkEventDispatcher.destroy();
+    }
+
+    @Test
+    void shouldRunActionForEveryCase_whenDispatched() {
+        Set<Long> handled = ConcurrentHashMap.newKeySet();
+
+        BulkEventDispatcher.Summary summary = bulkEventDispatcher.dispatch(
+            JOB,
+            LongStream.rangeClosed(1, 50).boxed(),
+            handled::add
+        );
+
+        assertThat(summary).isEqualTo(new BulkEventDispatcher.Summary(50, 0));
+        assertThat(handled).hasSize(50);
+        assertThat(meterRegistry.counter("bulk.dispatch.cases", "job", JOB, "result", "success").count())
+            .isEqualTo(50);
+        assertThat(meterRegistry.timer("bulk.dispatch.duration", "job", JOB).count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCarryOnWithOtherCases_whenActionFailsForOneCase() {
+        Set<Long> handled = ConcurrentHashMap.newKeySet();
+
+        BulkEventDispatcher.Summary summary = bulkEventDispatcher.dispatch(
+            JOB,
+            Stream.of(1L, 2L, 3L),
+            caseId -> {
+                if (caseId == 2L) {
+                    throw new IllegalStateException("CCD down");
+                }
+                handled.add(caseId);
+            }
+        );
+
+        assertThat(summary).isEqualTo(new BulkEventDispatcher.Summary(3, 1));
+        assertThat(handled).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(meterRegistry.counter("bulk.dispatch.cases", "job", JOB, "result", "failure").count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void shouldRunCasesInParallel_upToParallelism() {
+        CountDownLatch allStarted = new CountDownLatch(PARALLELISM);
+        AtomicInteger inProgress = new AtomicInteger();
+        AtomicInteger maxInProgress = new AtomicInteger();
+
+        bulkEventDispatcher.dispatch(
+            JOB,
+            LongStream.rangeClosed(1, 10).boxed(),
+            caseId -> {
+                maxInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+                allStarted.countDown();
+                try {
+                    allStarted.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inProgress.decrementAndGet();
+            }
+        );
+
+        assertThat(maxInProgress.get()).isEqualTo(PARALLELISM);
+    }
+
+    @Test
+    void shouldWaitForDispatchedCases_whenCaseSearchFails() {
+        Set<Long> handled = ConcurrentHashMap.newKeySet();
+        Stream<Long> caseIds = Stream.of(List.of(1L, 2L), List.<Long>of())
+            .flatMap(page -> {
+                if (page.isEmpty()) {
+                    throw new IllegalStateException("Search failed");
+                }
+                return page.stream();
+            });
+
+        assertThrows(IllegalStateException.class, () -> bulkEventDispatcher.dispatch(JOB, caseIds, handled::add));
+        assertThat(handled).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void shouldFinishDispatch_whenDestroyedWhileDispatching() throws Exception {
+        CountDownLatch started = new CountDownLatch(PARALLELISM);
+        Set<Long> handled = ConcurrentHashMap.newKeySet();
+        CompletableFuture<Void> dispatch = CompletableFuture.runAsync(() -> bulkEventDispatcher.dispatch(
+            JOB,
+            LongStream.rangeClosed(1, 50).boxed(),
+            caseId -> {
+                started.countDown();
+                handled.add(caseId);
+            }
+        ));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        bulkEventDispatcher.destroy();
+
+        // Completes, with a rejected case when the shutdown came before the last case was handed over
+        dispatch.handle((result, e) -> result).get(5, TimeUnit.SECONDS);
+        assertThat(handled).isNotEmpty();
+    }
+}
@@ -17,8 +17,6 @@ import uk.gov.hmcts.reform.ccd.client.model.CaseDataContent;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
-import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 import uk.gov.hmcts.reform.unspec.callback.CaseEvent;
 import uk.gov.hmcts.reform.unspec.config.SystemUpdateUserConfiguration;
 import uk.gov.hmcts.reform.unspec.enums.BusinessProcessStatus;
@@ -28,6 +26,7 @@ import uk.gov.hmcts.reform.unspec.model.CaseData;
 import uk.gov.hmcts.reform.unspec.model.search.Query;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDetailsBuilder;
+import uk.gov.hmcts.reform.unspec.service.data.UserAuthContent;
 
 import java.util.List;
 
@@ -59,7 +58,7 @@ class CoreCaseDataServiceTest {
     private CoreCaseDataApi coreCaseDataApi;
 
     @MockBean
-    private IdamClient idamClient;
+    private UserTokenCache userTokenCache;
 
     @MockBean
     private AuthTokenGenerator authTokenGenerator;
@@ -73,9 +72,10 @@ class CoreCaseDataServiceTest {
     @BeforeEach
     void init() {
         clearInvocations(authTokenGenerator);
-        clearInvocations(idamClient);
+        clearInvocations(userTokenCache);
         when(authTokenGenerator.generate()).thenReturn(SERVICE_AUTH_TOKEN);
-        when(idamClient.getAccessToken(userConfig.getUserName(), userConfig.getPassword())).thenReturn(USER_AUTH_TOKEN);
+        when(userTokenCache.getAccessToken(userConfig.getUserName(), userConfig.getPassword()))
+            .thenReturn(USER_AUTH_TOKEN);
     }
 
     @Nested
@@ -95,7 +95,8 @@ class CoreCaseDataServiceTest {
 
         @BeforeEach
         void setUp() {
-            when(idamClient.getUserInfo(USER_AUTH_TOKEN)).thenReturn(UserInfo.builder().uid(USER_ID).build());
+            when(userTokenCache.getUserAuthContent(userConfig.getUserName(), userConfig.getPassword()))
+                .thenReturn(UserAuthContent.builder().userToken(USER_AUTH_TOKEN).userId(USER_ID).build());
 
             when(coreCaseDataApi.startEventForCaseWorker(USER_AUTH_TOKEN, SERVICE_AUTH_TOKEN, USER_ID, JURISDICTION,
                                                          CASE_TYPE, CASE_ID, EVENT_ID
@@ -147,7 +148,7 @@ class CoreCaseDataServiceTest {
 
         @Test
         void shouldReturnCases_WhenSearchingCasesAsSystemUpdateUser() {
-            Query query = new Query(QueryBuilders.matchQuery("field", "value"), emptyList(), 0);
+            Query query = Query.pageAfter(QueryBuilders.matchQuery("field", "value"), emptyList(), 100, null);
 
             List<CaseDetails> cases = List.of(CaseDetails.builder().id(1L).build());
             SearchResult searchResult = SearchResult.builder().cases(cases).build();
@@ -159,7 +160,7 @@ class CoreCaseDataServiceTest {
 
             assertThat(casesFound).isEqualTo(cases);
             verify(coreCaseDataApi).searchCases(USER_AUTH_TOKEN, SERVICE_AUTH_TOKEN, CASE_TYPE, query.toString());
-            verify(idamClient).getAccessToken(userConfig.getUserName(), userConfig.getPassword());
+            verify(userTokenCache).getAccessToken(userConfig.getUserName(), userConfig.getPassword());
         }
     }
 
@@ -176,7 +177,7 @@ class CoreCaseDataServiceTest {
 
             assertThat(caseDetails).isEqualTo(expectedCaseDetails);
             verify(coreCaseDataApi).getCase(USER_AUTH_TOKEN, SERVICE_AUTH_TOKEN, "1");
-            verify(idamClient).getAccessToken(userConfig.getUserName(), userConfig.getPassword());
+            verify(userTokenCache).getAccessToken(userConfig.getUserName(), userConfig.getPassword());
         }
     }
 }
@@ -15,15 +15,17 @@ import uk.gov.hmcts.reform.ccd.model.CaseAssignedUserRole;
 import uk.gov.hmcts.reform.ccd.model.CaseAssignedUserRoleWithOrganisation;
 import uk.gov.hmcts.reform.ccd.model.CaseAssignedUserRolesRequest;
 import uk.gov.hmcts.reform.ccd.model.CaseAssignedUserRolesResource;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.unspec.config.CrossAccessUserConfiguration;
 import uk.gov.hmcts.reform.unspec.enums.CaseRole;
+import uk.gov.hmcts.reform.unspec.model.CaseRoleAssignment;
 
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -45,7 +47,7 @@ class CoreCaseUserServiceTest {
     private CaseAccessDataStoreApi caseAccessDataStoreApi;
 
     @MockBean
-    private IdamClient idamClient;
+    private UserTokenCache userTokenCache;
 
     @MockBean
     private AuthTokenGenerator authTokenGenerator;
@@ -56,9 +58,9 @@ class CoreCaseUserServiceTest {
     @BeforeEach
     void init() {
         clearInvocations(authTokenGenerator);
-        clearInvocations(idamClient);
+        clearInvocations(userTokenCache);
         when(authTokenGenerator.generate()).thenReturn(SERVICE_AUTH_TOKEN);
-        when(idamClient.getAccessToken(userConfig.getUserName(), userConfig.getPassword())).thenReturn(
+        when(userTokenCache.getAccessToken(userConfig.getUserName(), userConfig.getPassword())).thenReturn(
             CAA_USER_AUTH_TOKEN);
     }
 
@@ -173,4 +175,121 @@ class CoreCaseUserServiceTest {
         }
     }
 
+    @Nested
+    class ReconcileCaseRoles {
+
+        private static final String OTHER_CASE_ID = "2";
+
+        @Test
+        void shouldAddMissingRolesAndRemoveHeldRoles_whenRolesReadOnce() {
+            when(caseAccessDataStoreApi.getUserRoles(CAA_USER_AUTH_TOKEN, SERVICE_AUTH_TOKEN, List.of(CASE_ID)))
+                .thenReturn(userRoles(userRole(CASE_ID, CaseRole.CREATOR)));
+
+            service.reconcileCaseRoles(
+                List.of(assignment(CASE_ID, CaseRole.APPLICANTSOLICITORONE)),
+                List.of(assignment(CASE_ID, CaseRole.CREATOR))
+            );
+
+            verify(userTokenCache).getAccessToken(userConfig.getUserName(), userConfig.getPassword());
+            verify(caseAccessDataStoreApi).getUserRoles(CAA_USER_AUTH_TOKEN, SERVICE_AUTH_TOKEN, List.of(CASE_ID));
+            verify(caseAccessDataStoreApi).addCaseUserRoles(
+                CAA_USER_AUTH_TOKEN,
+                SERVICE_AUTH_TOKEN,
+                AddCaseAssignedUserRolesRequest.builder()
+                    .caseAssignedUserRoles(List.of(userRoleWithOrganisation(CASE_ID, CaseRole.APPLICANTSOLICITORONE)))
+                    .build()
+            );
+            verify(caseAccessDataStoreApi).removeCaseUserRoles(
+                CAA_USER_AUTH_TOKEN,
+                SERVICE_AUTH_TOKEN,
+                CaseAssignedUserRolesRequest.builder()
+                    .caseAssignedUserRoles(List.of(userRoleWithOrganisation(CASE_ID, CaseRole.CREATOR)))
+                    .build()
+            );
+        }
+
+        @Test
+        void shouldNotChangeRoles_whenRolesAlreadyReconciled() {
+            when(caseAccessDataStoreApi.getUserRoles(CAA_USER_AUTH_TOKEN, SERVICE_AUTH_TOKEN, List.of(CASE_ID)))
+                .thenReturn(userRoles(userRole(CASE_ID, CaseRole.APPLICANTSOLICITORONE)));
+
+            service.reconcileCaseRoles(
+                List.of(assignment(CASE_ID, CaseRole.APPLICANTSOLICITORONE)),
+                List.of(assignment(CASE_ID, CaseRole.CREATOR))
+            );
+
+            verify(caseAccessDataStoreApi, never()).addCaseUserRoles(any(), any(), any());
+            verify(caseAccessDataStoreApi, never()).removeCaseUserRoles(any(), any(), any());
+        }
+
+        @Test
+        void shouldReadAndChangeRolesOfAllCasesTogether_whenManyCases() {
+            when(caseAccessDataStoreApi.getUserRoles(
+                CAA_USER_AUTH_TOKEN,
+                SERVICE_AUTH_TOKEN,
+                List.of(CASE_ID, OTHER_CASE_ID)
+            )).thenReturn(userRoles(userRole(CASE_ID, CaseRole.CREATOR), userRole(OTHER_CASE_ID, CaseRole.CREATOR)));
+
+            service.reconcileCaseRoles(
+                List.of(
+                    assignment(CASE_ID, CaseRole.APPLICANTSOLICITORONE),
+                    assignment(OTHER_CASE_ID, CaseRole.APPLICANTSOLICITORONE)
+                ),
+                List.of(assignment(CASE_ID, CaseRole.CREATOR), assignment(OTHER_CASE_ID, CaseRole.CREATOR))
+            );
+
+            verify(caseAccessDataStoreApi).addCaseUserRoles(
+                CAA_USER_AUTH_TOKEN,
+                SERVICE_AUTH_TOKEN,
+                AddCaseAssignedUserRolesRequest.builder()
+                    .caseAssignedUserRoles(List.of(
+                        userRoleWithOrganisation(CASE_ID, CaseRole.APPLICANTSOLICITORONE),
+                        userRoleWithOrganisation(OTHER_CASE_ID, CaseRole.APPLICANTSOLICITORONE)
+                    ))
+                    .build()
+            );
+            verify(caseAccessDataStoreApi).removeCaseUserRoles(
+                CAA_USER_AUTH_TOKEN,
+                SERVICE_AUTH_TOKEN,
+                CaseAssignedUserRolesRequest.builder()
+                    .caseAssignedUserRoles(List.of(
+                        userRoleWithOrganisation(CASE_ID, CaseRole.CREATOR),
+                        userRoleWithOrganisation(OTHER_CASE_ID, CaseRole.CREATOR)
+                    ))
+                    .build()
+            );
+        }
+
+        @Test
+        void shouldNotCallCaseAssignment_whenNothingToReconcile() {
+            service.reconcileCaseRoles(List.of(), List.of());
+
+            verifyNoInteractions(caseAccessDataStoreApi);
+        }
+
+        private CaseRoleAssignment assignment(String caseId, CaseRole caseRole) {
+            return new CaseRoleAssignment(caseId, USER_ID, ORG_ID, caseRole);
+        }
+
+        private CaseAssignedUserRole userRole(String caseId, CaseRole caseRole) {
+            return CaseAssignedUserRole.builder()
+                .caseDataId(caseId)
+                .userId(USER_ID)
+                .caseRole(caseRole.getFormattedName())
+                .build();
+        }
+
+        private CaseAssignedUserRolesResource userRoles(CaseAssignedUserRole... userRoles) {
+            return CaseAssignedUserRolesResource.builder().caseAssignedUserRoles(List.of(userRoles)).build();
+        }
+
+        private CaseAssignedUserRoleWithOrganisation userRoleWithOrganisation(String caseId, CaseRole caseRole) {
+            return CaseAssignedUserRoleWithOrganisation.builder()
+                .caseDataId(caseId)
+                .userId(USER_ID)
+                .caseRole(caseRole.getFormattedName())
+                .organisationId(ORG_ID)
+                .build();
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.unspec.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,13 +15,10 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.unspec.enums.AllocatedTrack;
-import uk.gov.hmcts.reform.unspec.helpers.ResourceReader;
-import uk.gov.hmcts.reform.unspec.service.bankholidays.BankHolidays;
 import uk.gov.hmcts.reform.unspec.service.bankholidays.BankHolidaysApi;
 import uk.gov.hmcts.reform.unspec.service.bankholidays.NonWorkingDaysCollection;
 import uk.gov.hmcts.reform.unspec.service.bankholidays.PublicHolidaysCollection;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.stream.Stream;
@@ -33,7 +31,6 @@ import static java.time.Month.JULY;
 import static java.time.Month.JUNE;
 import static java.time.Month.NOVEMBER;
 import static java.time.Month.OCTOBER;
-import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.unspec.assertion.DayAssert.assertThat;
 import static uk.gov.hmcts.reform.unspec.enums.AllocatedTrack.SMALL_CLAIM;
 import static uk.gov.hmcts.reform.unspec.service.DeadlinesCalculator.END_OF_BUSINESS_DAY;
@@ -41,6 +38,8 @@ import static uk.gov.hmcts.reform.unspec.service.DeadlinesCalculator.END_OF_BUSI
 @ExtendWith(SpringExtension.class)
 public class DeadlinesCalculatorTest {
 
+    private static final String BANK_HOLIDAYS = "/bank-holidays.json";
+
     @Mock
     private BankHolidaysApi bankHolidaysApi;
     @Mock
@@ -49,14 +48,12 @@ public class DeadlinesCalculatorTest {
     private DeadlinesCalculator calculator;
 
     @BeforeEach
-    public void setUp() throws IOException {
+    public void setUp() {
         WorkingDayIndicator workingDayIndicator = new WorkingDayIndicator(
-            new PublicHolidaysCollection(bankHolidaysApi),
+            new PublicHolidaysCollection(bankHolidaysApi, new ObjectMapper(), new SimpleMeterRegistry(), BANK_HOLIDAYS),
             nonWorkingDaysCollection
         );
 
-        when(bankHolidaysApi.retrieveAll()).thenReturn(loadFixture());
-
         calculator = new DeadlinesCalculator(workingDayIndicator);
     }
 
@@ -228,12 +225,4 @@ public class DeadlinesCalculatorTest {
                 .isTheSame(expectedDeadline);
         }
     }
-
-    /**
-     * The fixture is taken from the real bank holidays API.
-     */
-    private BankHolidays loadFixture() throws IOException {
-        String input = ResourceReader.readString("/bank-holidays.json");
-        return new ObjectMapper().readValue(input, BankHolidays.class);
-    }
 }
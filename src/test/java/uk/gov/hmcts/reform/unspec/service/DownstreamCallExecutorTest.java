@@ -0,0 +1,103 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DownstreamCallExecutorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DownstreamCallExecutor downstreamCallExecutor = new DownstreamCallExecutor(meterRegistry, 2);
+
+    @AfterEach
+    void tearDown() {
+        downstreamCallExecutor.destroy();
+    }
+
+    @Test
+    void shouldRunCallsConcurrently_whenStarted() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Supplier<Boolean> call = () -> {
+            bothStarted.countDown();
+            try {
+                // Only returns true when the other call is running at the same time
+                return bothStarted.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        };
+
+        var first = downstreamCallExecutor.start(call);
+        var second = downstreamCallExecutor.start(call);
+
+        assertThat(first.join()).isTrue();
+        assertThat(second.join()).isTrue();
+    }
+
+    @Test
+    void shouldReturnResult_whenPendingCallJoined() {
+        var pendingCall = downstreamCallExecutor.start(() -> "fee");
+
+        assertThat(pendingCall.join()).isEqualTo("fee");
+    }
+
+    @Test
+    void shouldRethrowFailureOfCall_whenPendingCallJoined() {
+        IllegalStateException failure = new IllegalStateException("fees register down");
+        var pendingCall = downstreamCallExecutor.start(() -> {
+            throw failure;
+        });
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, pendingCall::join);
+        assertThat(thrown).isSameAs(failure);
+    }
+
+    @Test
+    void shouldRunCallOnCallingThread_whenAllThreadsBusy() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        var first = downstreamCallExecutor.start(() -> sleepAndRecordThread(threads));
+        var second = downstreamCallExecutor.start(() -> sleepAndRecordThread(threads));
+        var third = downstreamCallExecutor.start(() -> sleepAndRecordThread(threads));
+        first.join();
+        second.join();
+        third.join();
+
+        assertThat(threads).contains(Thread.currentThread().getName());
+    }
+
+    @Test
+    void shouldPublishPoolMetrics_whenCreated() {
+        assertThat(meterRegistry.find("executor.completed").tag("name", "downstream.calls").functionCounter())
+            .isNotNull();
+        assertThat(meterRegistry.find("executor.active").tag("name", "downstream.calls").gauge())
+            .isNotNull();
+    }
+
+    @Test
+    void shouldRejectParallelismLessThanOne() {
+        assertThrows(IllegalArgumentException.class, () -> new DownstreamCallExecutor(meterRegistry, 0));
+    }
+
+    private static String sleepAndRecordThread(Set<String> threads) {
+        String thread = Thread.currentThread().getName();
+        threads.add(thread);
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return thread;
+    }
+}
@@ -56,6 +56,18 @@ class EventEmitterServiceTest {
         verify(applicationEventPublisher).publishEvent(new DispatchBusinessProcessEvent(1L, businessProcess));
     }
 
+    @Test
+    void shouldSendMessageAndTriggerEvent_whenInvokedWithCaseIdAndBusinessProcess() {
+        var businessProcess = BusinessProcess.builder().camundaEvent("TEST_EVENT").build();
+
+        eventEmitterService.emitBusinessProcessCamundaEvent(1L, businessProcess, true);
+
+        verify(runtimeService).createMessageCorrelation("TEST_EVENT");
+        verify(messageCorrelationBuilder).setVariable("caseId", 1L);
+        verify(messageCorrelationBuilder).correlateStartMessage();
+        verify(applicationEventPublisher).publishEvent(new DispatchBusinessProcessEvent(1L, businessProcess));
+    }
+
     @Test
     void shouldSendMessageAndNotTriggerEvent_whenNotTrue() {
         when(messageCorrelationBuilder.correlateStartMessage()).thenThrow(new RuntimeException());
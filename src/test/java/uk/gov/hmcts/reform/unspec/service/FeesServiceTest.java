@@ -1,13 +1,17 @@
 package uk.gov.hmcts.reform.unspec.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.fees.client.FeesClient;
+import uk.gov.hmcts.reform.fees.client.model.Fee2Dto;
 import uk.gov.hmcts.reform.fees.client.model.FeeLookupResponseDto;
+import uk.gov.hmcts.reform.fees.client.model.FeeVersionDto;
+import uk.gov.hmcts.reform.fees.client.model.FlatAmountDto;
 import uk.gov.hmcts.reform.unspec.config.FeesConfiguration;
 import uk.gov.hmcts.reform.unspec.model.ClaimValue;
 import uk.gov.hmcts.reform.unspec.model.Fee;
@@ -18,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
@@ -34,11 +39,13 @@ class FeesServiceTest {
     @Mock
     private FeesConfiguration feesConfiguration;
 
-    @InjectMocks
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private FeesService feesService;
 
     @BeforeEach
     void setUp() {
+        feesService = new FeesService(feesClient, feesConfiguration, meterRegistry);
         given(feesClient.lookupFee(any(), any(), eq(new BigDecimal("50.00"))))
             .willReturn(FeeLookupResponseDto.builder()
                             .feeAmount(TEST_FEE_AMOUNT_POUNDS)
@@ -66,4 +73,88 @@ class FeesServiceTest {
         verify(feesClient).lookupFee(CHANNEL, EVENT, new BigDecimal("50.00"));
         assertThat(feeDto).isEqualTo(expectedFeeDto);
     }
+
+    @Test
+    void shouldReuseFee_whenClaimValueInSameFlatFeeBand() {
+        given(feesClient.findRangeGroup(CHANNEL, EVENT)).willReturn(new Fee2Dto[]{
+            flatFeeBand("test_fee_code", "0.01", "300.00")
+        });
+        feesService.refreshFeeBands();
+
+        Fee first = feesService.getFeeDataByClaimValue(claimValueInPennies(5000));
+        Fee second = feesService.getFeeDataByClaimValue(claimValueInPennies(25000));
+
+        verify(feesClient).lookupFee(CHANNEL, EVENT, new BigDecimal("50.00"));
+        verify(feesClient, times(1)).lookupFee(any(), any(), any());
+        assertThat(second).isEqualTo(first);
+        assertThat(meterRegistry.counter("fees.cache", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("fees.cache", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLookUpFee_whenClaimValueOutsideKnownFeeBands() {
+        given(feesClient.lookupFee(any(), any(), eq(new BigDecimal("500.00"))))
+            .willReturn(FeeLookupResponseDto.builder()
+                            .feeAmount(new BigDecimal("35.00"))
+                            .code("other_fee_code")
+                            .version(1)
+                            .build());
+        given(feesClient.findRangeGroup(CHANNEL, EVENT)).willReturn(new Fee2Dto[]{
+            flatFeeBand("test_fee_code", "0.01", "300.00")
+        });
+        feesService.refreshFeeBands();
+
+        feesService.getFeeDataByClaimValue(claimValueInPennies(50000));
+        Fee fee = feesService.getFeeDataByClaimValue(claimValueInPennies(50000));
+
+        verify(feesClient, times(2)).lookupFee(CHANNEL, EVENT, new BigDecimal("500.00"));
+        assertThat(fee.getCode()).isEqualTo("other_fee_code");
+        assertThat(meterRegistry.counter("fees.cache", "result", "hit").count()).isZero();
+        assertThat(meterRegistry.counter("fees.cache", "result", "miss").count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotReuseFee_whenFeesRegisterDisagreesOnFeeBand() {
+        given(feesClient.findRangeGroup(CHANNEL, EVENT)).willReturn(new Fee2Dto[]{
+            flatFeeBand("another_fee_code", "0.01", "300.00")
+        });
+        feesService.refreshFeeBands();
+
+        feesService.getFeeDataByClaimValue(claimValueInPennies(5000));
+        feesService.getFeeDataByClaimValue(claimValueInPennies(5000));
+
+        verify(feesClient, times(2)).lookupFee(CHANNEL, EVENT, new BigDecimal("50.00"));
+    }
+
+    @Test
+    void shouldKeepFeeBands_whenRefreshFails() {
+        given(feesClient.findRangeGroup(CHANNEL, EVENT))
+            .willReturn(new Fee2Dto[]{flatFeeBand("test_fee_code", "0.01", "300.00")})
+            .willThrow(new IllegalStateException("fees register unavailable"));
+        feesService.refreshFeeBands();
+        feesService.getFeeDataByClaimValue(claimValueInPennies(5000));
+
+        feesService.refreshFeeBands();
+        feesService.getFeeDataByClaimValue(claimValueInPennies(5000));
+
+        verify(feesClient, times(1)).lookupFee(CHANNEL, EVENT, new BigDecimal("50.00"));
+    }
+
+    private static ClaimValue claimValueInPennies(long pennies) {
+        return ClaimValue.builder()
+            .statementOfValueInPennies(BigDecimal.valueOf(pennies))
+            .build();
+    }
+
+    private static Fee2Dto flatFeeBand(String code, String minRange, String maxRange) {
+        return Fee2Dto.builder()
+            .code(code)
+            .minRange(new BigDecimal(minRange))
+            .maxRange(new BigDecimal(maxRange))
+            .currentVersion(FeeVersionDto.builder()
+                                .version(1)
+                                .flatAmount(FlatAmountDto.builder().amount(TEST_FEE_AMOUNT_POUNDS).build())
+                                .build())
+            .build();
+    }
 }
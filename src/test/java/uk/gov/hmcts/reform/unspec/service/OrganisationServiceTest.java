@@ -2,27 +2,31 @@ package uk.gov.hmcts.reform.unspec.service;
 
 import feign.FeignException;
 import feign.Request;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.prd.client.OrganisationApi;
 import uk.gov.hmcts.reform.prd.model.Organisation;
 import uk.gov.hmcts.reform.unspec.config.PrdAdminUserConfiguration;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static feign.Request.HttpMethod.GET;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,9 +42,15 @@ class OrganisationServiceTest {
         "not found message",
         Request.create(GET, "", Map.of(), new byte[]{}, UTF_8, null),
         "not found response body".getBytes(UTF_8));
+    private final FeignException serverFeignException = new FeignException.InternalServerError(
+        "server error message",
+        Request.create(GET, "", Map.of(), new byte[]{}, UTF_8, null),
+        "server error response body".getBytes(UTF_8));
     private final Organisation expectedOrganisation = Organisation.builder()
         .organisationIdentifier(ORG_ID)
         .build();
+    private final AtomicLong nanos = new AtomicLong();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @Mock
     private OrganisationApi organisationApi;
@@ -49,20 +59,34 @@ class OrganisationServiceTest {
     private AuthTokenGenerator authTokenGenerator;
 
     @Mock
-    private IdamClient idamClient;
+    private UserTokenCache userTokenCache;
 
     @Mock
     private PrdAdminUserConfiguration userConfig;
 
-    @InjectMocks
     private OrganisationService organisationService;
 
     @BeforeEach
     void setUp() {
+        organisationService = new OrganisationService(
+            organisationApi,
+            authTokenGenerator,
+            userTokenCache,
+            userConfig,
+            meterRegistry,
+            new OrganisationService.CacheSettings(
+                Duration.ofMinutes(10),
+                Duration.ofMinutes(1),
+                Duration.ofMinutes(5),
+                100
+            ),
+            nanos::get,
+            Runnable::run
+        );
         given(organisationApi.findUserOrganisation(any(), any())).willReturn(expectedOrganisation);
         given(organisationApi.findOrganisationById(any(), any(), any())).willReturn(expectedOrganisation);
         given(authTokenGenerator.generate()).willReturn(SERVICE_AUTH_TOKEN);
-        when(idamClient.getAccessToken(userConfig.getUsername(), userConfig.getPassword())).thenReturn(
+        when(userTokenCache.getAccessToken(userConfig.getUsername(), userConfig.getPassword())).thenReturn(
             PRD_ADMIN_AUTH_TOKEN);
     }
 
@@ -94,7 +118,7 @@ class OrganisationServiceTest {
         void shouldReturnOrganisation_whenInvoked() {
             var organisation = organisationService.findOrganisationById(ORG_ID);
 
-            verify(idamClient).getAccessToken(userConfig.getUsername(), userConfig.getPassword());
+            verify(userTokenCache).getAccessToken(userConfig.getUsername(), userConfig.getPassword());
             verify(organisationApi).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, ORG_ID);
             assertThat(organisation).isEqualTo(Optional.of(expectedOrganisation));
         }
@@ -104,9 +128,114 @@ class OrganisationServiceTest {
             given(organisationApi.findOrganisationById(any(), any(), any())).willThrow(notFoundFeignException);
             var organisation = organisationService.findOrganisationById(ORG_ID);
 
-            verify(idamClient).getAccessToken(userConfig.getUsername(), userConfig.getPassword());
+            verify(userTokenCache).getAccessToken(userConfig.getUsername(), userConfig.getPassword());
             verify(organisationApi).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, ORG_ID);
             assertThat(organisation).isEmpty();
         }
     }
+
+    @Nested
+    class Caching {
+
+        @Test
+        void shouldLookUpOrganisationOnce_whenFoundWithinTimeToLive() {
+            organisationService.findOrganisationById(ORG_ID);
+            advance(Duration.ofMinutes(4));
+            var organisation = organisationService.findOrganisationById(ORG_ID);
+
+            verify(organisationApi).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, ORG_ID);
+            assertThat(organisation).isEqualTo(Optional.of(expectedOrganisation));
+        }
+
+        @Test
+        void shouldLookUpUserOrganisationEveryTime() {
+            organisationService.findOrganisation(AUTH_TOKEN);
+            organisationService.findOrganisation(AUTH_TOKEN);
+
+            verify(organisationApi, times(2)).findUserOrganisation(AUTH_TOKEN, SERVICE_AUTH_TOKEN);
+        }
+
+        @Test
+        void shouldReloadOrganisationInBackground_whenOlderThanRefreshInterval() {
+            Organisation renamed = Organisation.builder().organisationIdentifier(ORG_ID).name("renamed").build();
+            organisationService.findOrganisationById(ORG_ID);
+            given(organisationApi.findOrganisationById(any(), any(), any())).willReturn(renamed);
+
+            advance(Duration.ofMinutes(6));
+            var stale = organisationService.findOrganisationById(ORG_ID);
+            var refreshed = organisationService.findOrganisationById(ORG_ID);
+
+            verify(organisationApi, times(2)).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, ORG_ID);
+            assertThat(stale).isEqualTo(Optional.of(expectedOrganisation));
+            assertThat(refreshed).isEqualTo(Optional.of(renamed));
+        }
+
+        @Test
+        void shouldRememberOrganisationNotFound_untilNotFoundTimeToLiveExpires() {
+            given(organisationApi.findOrganisationById(any(), any(), any())).willThrow(notFoundFeignException);
+
+            organisationService.findOrganisationById(ORG_ID);
+            organisationService.findOrganisationById(ORG_ID);
+            verify(organisationApi).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, ORG_ID);
+
+            advance(Duration.ofMinutes(2));
+            organisationService.findOrganisationById(ORG_ID);
+            verify(organisationApi, times(2)).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, ORG_ID);
+        }
+
+        @Test
+        void shouldNotRememberFailedLookup() {
+            given(organisationApi.findOrganisationById(any(), any(), any()))
+                .willThrow(serverFeignException)
+                .willReturn(expectedOrganisation);
+
+            assertThatThrownBy(() -> organisationService.findOrganisationById(ORG_ID))
+                .isSameAs(serverFeignException);
+            var organisation = organisationService.findOrganisationById(ORG_ID);
+
+            verify(organisationApi, times(2)).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, ORG_ID);
+            assertThat(organisation).isEqualTo(Optional.of(expectedOrganisation));
+        }
+
+        @Test
+        void shouldLookUpOrganisationAgain_whenEvicted() {
+            organisationService.findOrganisationById(ORG_ID);
+
+            organisationService.evictOrganisation(ORG_ID);
+            organisationService.findOrganisationById(ORG_ID);
+
+            verify(organisationApi, times(2)).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, ORG_ID);
+        }
+
+        @Test
+        void shouldLookUpOrganisationAgain_whenAllEvicted() {
+            organisationService.findOrganisationById(ORG_ID);
+
+            organisationService.evictAll();
+            organisationService.findOrganisationById(ORG_ID);
+
+            verify(organisationApi, times(2)).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, ORG_ID);
+        }
+
+        @Test
+        void shouldPublishCacheStatistics_whenOrganisationLookedUp() {
+            organisationService.findOrganisationById(ORG_ID);
+            organisationService.findOrganisationById(ORG_ID);
+
+            assertThat(cacheGets("hit")).isEqualTo(1);
+            assertThat(cacheGets("miss")).isEqualTo(1);
+        }
+
+        private double cacheGets(String result) {
+            return meterRegistry.get("cache.gets")
+                .tag("cache", "prd.organisations")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+        }
+
+        private void advance(Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+    }
 }
@@ -0,0 +1,168 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.idam.client.IdamClient;
+import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+import uk.gov.hmcts.reform.unspec.service.data.UserAuthContent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserTokenCacheTest {
+
+    private static final String USERNAME = "system-update@example.com";
+    private static final String PASSWORD = "password";
+    private static final String USER_ID = "user-id";
+    private static final Instant NOW = Instant.parse("2020-11-05T10:00:00Z");
+    private static final Duration REFRESH_BEFORE = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    @Mock
+    private IdamClient idamClient;
+
+    @Mock
+    private Clock clock;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private UserTokenCache userTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.instant()).thenReturn(NOW);
+        lenient().when(idamClient.getUserInfo(anyString())).thenReturn(UserInfo.builder().uid(USER_ID).build());
+        userTokenCache = new UserTokenCache(
+            idamClient, new ObjectMapper(), meterRegistry, clock, REFRESH_BEFORE, DEFAULT_TTL
+        );
+    }
+
+    @Nested
+    class JwtToken {
+
+        private final String token = jwtExpiringAt(NOW.plus(Duration.ofHours(8)));
+
+        @BeforeEach
+        void setUp() {
+            lenient().when(idamClient.getAccessToken(USERNAME, PASSWORD)).thenReturn(token);
+        }
+
+        @Test
+        void shouldCallIdamOnce_whenTokenRequestedRepeatedly() {
+            UserAuthContent first = userTokenCache.getUserAuthContent(USERNAME, PASSWORD);
+            String second = userTokenCache.getAccessToken(USERNAME, PASSWORD);
+
+            assertThat(first).isEqualTo(UserAuthContent.builder().userToken(token).userId(USER_ID).build());
+            assertThat(second).isEqualTo(token);
+            verify(idamClient).getAccessToken(USERNAME, PASSWORD);
+            verify(idamClient).getUserInfo(token);
+            assertThat(meterRegistry.counter("idam.token.cache", "result", "hit").count()).isEqualTo(1);
+            assertThat(meterRegistry.counter("idam.token.cache", "result", "refresh").count()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldRefreshToken_whenWithinRefreshWindowOfExpiry() {
+            userTokenCache.getAccessToken(USERNAME, PASSWORD);
+            when(clock.instant()).thenReturn(NOW.plus(Duration.ofHours(8)).minus(Duration.ofMinutes(4)));
+
+            userTokenCache.getAccessToken(USERNAME, PASSWORD);
+
+            verify(idamClient, times(2)).getAccessToken(USERNAME, PASSWORD);
+        }
+
+        @Test
+        void shouldReturnCachedToken_whenRefreshFailsBeforeExpiry() {
+            userTokenCache.getAccessToken(USERNAME, PASSWORD);
+            when(clock.instant()).thenReturn(NOW.plus(Duration.ofHours(8)).minus(Duration.ofMinutes(4)));
+            when(idamClient.getAccessToken(USERNAME, PASSWORD)).thenThrow(new IllegalStateException("IDAM down"));
+
+            assertThat(userTokenCache.getAccessToken(USERNAME, PASSWORD)).isEqualTo(token);
+            assertThat(meterRegistry.counter("idam.token.cache", "result", "failure").count()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldThrow_whenRefreshFailsAfterExpiry() {
+            userTokenCache.getAccessToken(USERNAME, PASSWORD);
+            when(clock.instant()).thenReturn(NOW.plus(Duration.ofHours(9)));
+            when(idamClient.getAccessToken(USERNAME, PASSWORD)).thenThrow(new IllegalStateException("IDAM down"));
+
+            assertThrows(IllegalStateException.class, () -> userTokenCache.getAccessToken(USERNAME, PASSWORD));
+        }
+
+        @Test
+        void shouldRefreshOnce_whenRequestedConcurrently() throws Exception {
+            when(idamClient.getAccessToken(USERNAME, PASSWORD)).thenAnswer(invocation -> {
+                Thread.sleep(100);
+                return token;
+            });
+            List<Callable<String>> callers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                callers.add(() -> userTokenCache.getAccessToken(USERNAME, PASSWORD));
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(callers.size());
+            try {
+                for (Future<String> result : executor.invokeAll(callers)) {
+                    assertThat(result.get()).isEqualTo(token);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            verify(idamClient).getAccessToken(USERNAME, PASSWORD);
+        }
+    }
+
+    @Nested
+    class OpaqueToken {
+
+        @Test
+        void shouldKeepTokenForDefaultTimeToLive_whenTokenHasNoExpiry() {
+            when(idamClient.getAccessToken(USERNAME, PASSWORD)).thenReturn("Bearer token");
+
+            userTokenCache.getAccessToken(USERNAME, PASSWORD);
+            when(clock.instant()).thenReturn(NOW.plus(DEFAULT_TTL).minusSeconds(1));
+            userTokenCache.getAccessToken(USERNAME, PASSWORD);
+            verify(idamClient).getAccessToken(USERNAME, PASSWORD);
+
+            when(clock.instant()).thenReturn(NOW.plus(DEFAULT_TTL));
+            userTokenCache.getAccessToken(USERNAME, PASSWORD);
+            verify(idamClient, times(2)).getAccessToken(USERNAME, PASSWORD);
+        }
+    }
+
+    private static String jwtExpiringAt(Instant expiry) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"RS256\"}".getBytes(StandardCharsets.UTF_8));
+        String claims = encoder.encodeToString(
+            String.format("{\"sub\":\"%s\",\"exp\":%d}", USERNAME, expiry.getEpochSecond())
+                .getBytes(StandardCharsets.UTF_8)
+        );
+        return String.format("Bearer %s.%s.signature", header, claims);
+    }
+}
@@ -0,0 +1,93 @@
+package uk.gov.hmcts.reform.unspec.service;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WorkingDayCalendarTest {
+
+    private static final LocalDate CHRISTMAS_DAY = LocalDate.of(2020, 12, 25);
+    private static final LocalDate BOXING_DAY_SUBSTITUTE = LocalDate.of(2020, 12, 28);
+    private static final LocalDate CUSTOM_NON_WORKING_DAY = LocalDate.of(2020, 12, 29);
+
+    private final Set<LocalDate> publicHolidays = Set.of(CHRISTMAS_DAY, BOXING_DAY_SUBSTITUTE);
+    private final Set<LocalDate> nonWorkingDays = Set.of(CUSTOM_NON_WORKING_DAY);
+    private final WorkingDayCalendar calendar = WorkingDayCalendar.of(publicHolidays, nonWorkingDays);
+
+    @Test
+    void shouldNotBeWorkingDay_whenWeekendHolidayOrCustomNonWorkingDay() {
+        assertThat(calendar.isWorkingDay(LocalDate.of(2020, 12, 24))).isTrue();
+        assertThat(calendar.isWorkingDay(CHRISTMAS_DAY)).isFalse();
+        assertThat(calendar.isWorkingDay(LocalDate.of(2020, 12, 26))).isFalse();
+        assertThat(calendar.isWorkingDay(LocalDate.of(2020, 12, 27))).isFalse();
+        assertThat(calendar.isWorkingDay(BOXING_DAY_SUBSTITUTE)).isFalse();
+        assertThat(calendar.isWorkingDay(CUSTOM_NON_WORKING_DAY)).isFalse();
+    }
+
+    @Test
+    void shouldReturnNextWorkingDay_skippingNonWorkingDays() {
+        assertThat(calendar.getNextWorkingDay(LocalDate.of(2020, 12, 24))).isEqualTo(LocalDate.of(2020, 12, 24));
+        assertThat(calendar.getNextWorkingDay(CHRISTMAS_DAY)).isEqualTo(LocalDate.of(2020, 12, 30));
+    }
+
+    @Test
+    void shouldReturnPreviousWorkingDay_skippingNonWorkingDays() {
+        assertThat(calendar.getPreviousWorkingDay(LocalDate.of(2020, 12, 30))).isEqualTo(LocalDate.of(2020, 12, 30));
+        assertThat(calendar.getPreviousWorkingDay(CUSTOM_NON_WORKING_DAY)).isEqualTo(LocalDate.of(2020, 12, 24));
+    }
+
+    @Test
+    void shouldAddWorkingDays_skippingNonWorkingDays() {
+        assertThat(calendar.plusWorkingDays(LocalDate.of(2020, 12, 23), 0)).isEqualTo(LocalDate.of(2020, 12, 23));
+        assertThat(calendar.plusWorkingDays(LocalDate.of(2020, 12, 23), 1)).isEqualTo(LocalDate.of(2020, 12, 24));
+        assertThat(calendar.plusWorkingDays(LocalDate.of(2020, 12, 23), 2)).isEqualTo(LocalDate.of(2020, 12, 30));
+        assertThat(calendar.plusWorkingDays(CHRISTMAS_DAY, 2)).isEqualTo(LocalDate.of(2020, 12, 31));
+    }
+
+    @Test
+    void shouldThrowException_whenAddingNegativeWorkingDays() {
+        LocalDate date = LocalDate.of(2020, 12, 23);
+
+        assertThrows(IllegalArgumentException.class, () -> calendar.plusWorkingDays(date, -1));
+    }
+
+    @Test
+    void shouldBeBuiltFromSameCollectionsOnly() {
+        assertThat(calendar.isBuiltFrom(publicHolidays, nonWorkingDays)).isTrue();
+        assertThat(calendar.isBuiltFrom(Set.of(CHRISTMAS_DAY), nonWorkingDays)).isFalse();
+    }
+
+    @Nested
+    class OutsideOfPrecomputedRange {
+
+        @Test
+        void shouldCheckDaysOneByOne_whenDateBeforeRange() {
+            LocalDate saturday = LocalDate.of(2010, 1, 2);
+
+            assertThat(calendar.isWorkingDay(saturday)).isFalse();
+            assertThat(calendar.getNextWorkingDay(saturday)).isEqualTo(LocalDate.of(2010, 1, 4));
+            assertThat(calendar.getPreviousWorkingDay(saturday)).isEqualTo(LocalDate.of(2010, 1, 1));
+        }
+
+        @Test
+        void shouldCheckDaysOneByOne_whenDateAfterRange() {
+            LocalDate friday = LocalDate.of(2030, 1, 4);
+
+            assertThat(calendar.isWorkingDay(friday)).isTrue();
+            assertThat(calendar.plusWorkingDays(friday, 1)).isEqualTo(LocalDate.of(2030, 1, 7));
+        }
+
+        @Test
+        void shouldCarryOnPastEndOfRange_whenAddingWorkingDays() {
+            LocalDate lastWorkingDayOfRange = LocalDate.of(2021, 12, 31);
+
+            assertThat(calendar.plusWorkingDays(lastWorkingDayOfRange.minusDays(1), 2))
+                .isEqualTo(LocalDate.of(2022, 1, 3));
+        }
+    }
+}
@@ -130,7 +130,7 @@ class WorkingDayIndicatorTest {
 
         @Test
         void shouldReturnFalse_whenWorkingDayExcludedByNonWorkingDaysCollection() {
-            when(nonWorkingDaysCollection.contains(MONDAY)).thenReturn(true);
+            when(nonWorkingDaysCollection.getNonWorkingDays()).thenReturn(Set.of(MONDAY));
 
             assertFalse(service.isWorkingDay(MONDAY));
         }
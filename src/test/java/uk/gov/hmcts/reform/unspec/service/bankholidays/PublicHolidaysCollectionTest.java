@@ -1,5 +1,8 @@
 package uk.gov.hmcts.reform.unspec.service.bankholidays;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -12,7 +15,9 @@ import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -21,34 +26,105 @@ class PublicHolidaysCollectionTest {
     private static final LocalDate BANK_HOLIDAY_1 = LocalDate.of(2020, 12, 24);
     private static final LocalDate BANK_HOLIDAY_2 = LocalDate.of(2020, 12, 25);
 
+    private static final LocalDate SNAPSHOT_HOLIDAY = LocalDate.of(2015, 1, 1);
+    private static final String SNAPSHOT = "/bank-holidays.json";
+
     @Mock
     private BankHolidaysApi bankHolidaysApi;
 
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldLoadHolidaysFromSnapshot_withoutCallingApi() {
+        PublicHolidaysCollection publicHolidaysCollection = createCollection(SNAPSHOT);
+
+        assertThat(publicHolidaysCollection.getPublicHolidays()).contains(SNAPSHOT_HOLIDAY, BANK_HOLIDAY_2);
+        verifyNoInteractions(bankHolidaysApi);
+    }
+
+    @Test
+    void shouldHaveNoHolidays_whenSnapshotCannotBeRead() {
+        PublicHolidaysCollection publicHolidaysCollection = createCollection("/missing-bank-holidays.json");
+
+        assertThat(publicHolidaysCollection.getPublicHolidays()).isEmpty();
+    }
+
     @Test
-    void shouldReturnAllBankHolidays_whenSuccessfulResponse() {
+    void shouldReturnAllBankHolidays_whenRefreshedFromApi() {
         when(bankHolidaysApi.retrieveAll()).thenReturn(createExpectedResponse());
-        PublicHolidaysCollection publicHolidaysCollection = new PublicHolidaysCollection(bankHolidaysApi);
+        PublicHolidaysCollection publicHolidaysCollection = createCollection(SNAPSHOT);
 
-        Set<LocalDate> response = publicHolidaysCollection.getPublicHolidays();
+        publicHolidaysCollection.refresh();
 
         assertAll(
             "Bank holidays",
-            () -> assertThat(response).contains(BANK_HOLIDAY_1),
-            () -> assertThat(response).contains(BANK_HOLIDAY_2)
+            () -> assertThat(publicHolidaysCollection.getPublicHolidays()).containsOnly(BANK_HOLIDAY_1, BANK_HOLIDAY_2),
+            () -> assertThat(meterRegistry.counter("bank.holidays.refresh", "result", "success").count())
+                .isEqualTo(1)
         );
     }
 
     @Test
-    void shouldMakeSingleExternalApiCall_whenCacheIsNotPopulated() {
+    void shouldKeepSameSet_whenRefreshedHolidaysHaveNotChanged() {
         when(bankHolidaysApi.retrieveAll()).thenReturn(createExpectedResponse());
-        PublicHolidaysCollection publicHolidaysCollection = new PublicHolidaysCollection(bankHolidaysApi);
+        PublicHolidaysCollection publicHolidaysCollection = createCollection(SNAPSHOT);
+
+        publicHolidaysCollection.refresh();
+        Set<LocalDate> firstRefresh = publicHolidaysCollection.getPublicHolidays();
+        publicHolidaysCollection.refresh();
 
-        Set<LocalDate> resultFromApi = publicHolidaysCollection.getPublicHolidays();
-        Set<LocalDate> resultFromCache = publicHolidaysCollection.getPublicHolidays();
-        Set<LocalDate> resultFromCacheAgain = publicHolidaysCollection.getPublicHolidays();
+        verify(bankHolidaysApi, times(2)).retrieveAll();
+        assertThat(publicHolidaysCollection.getPublicHolidays()).isSameAs(firstRefresh);
+    }
+
+    @Test
+    void shouldKeepHolidays_whenRefreshFails() {
+        when(bankHolidaysApi.retrieveAll()).thenThrow(new RuntimeException("gov.uk unavailable"));
+        PublicHolidaysCollection publicHolidaysCollection = createCollection(SNAPSHOT);
+        Set<LocalDate> snapshot = publicHolidaysCollection.getPublicHolidays();
+
+        publicHolidaysCollection.refresh();
+
+        assertAll(
+            "Bank holidays",
+            () -> assertThat(publicHolidaysCollection.getPublicHolidays()).isSameAs(snapshot),
+            () -> assertThat(meterRegistry.counter("bank.holidays.refresh", "result", "failure").count())
+                .isEqualTo(1)
+        );
+    }
+
+    @Test
+    void shouldExposeStalenessGauges() {
+        createCollection(SNAPSHOT);
+
+        assertThat(meterRegistry.get("bank.holidays.age").gauge().value()).isNaN();
+        assertThat(meterRegistry.get("bank.holidays.horizon").gauge().value()).isLessThan(0);
+    }
+
+    @Test
+    void shouldMeasureAgeFromRefresh_whenRefreshedFromApi() {
+        when(bankHolidaysApi.retrieveAll()).thenReturn(createExpectedResponse());
+        PublicHolidaysCollection publicHolidaysCollection = createCollection(SNAPSHOT);
+        assertThat(publicHolidaysCollection.getAge()).isEmpty();
+
+        publicHolidaysCollection.refresh();
+
+        assertThat(publicHolidaysCollection.getAge()).isPresent();
+        assertThat(meterRegistry.get("bank.holidays.age").gauge().value()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    void shouldNotMeasureAge_whenRefreshFails() {
+        when(bankHolidaysApi.retrieveAll()).thenThrow(new RuntimeException("gov.uk unavailable"));
+        PublicHolidaysCollection publicHolidaysCollection = createCollection(SNAPSHOT);
+
+        publicHolidaysCollection.refresh();
+
+        assertThat(publicHolidaysCollection.getAge()).isEmpty();
+    }
 
-        verify(bankHolidaysApi).retrieveAll();
-        assertThat(resultFromApi).isSameAs(resultFromCache).isSameAs(resultFromCacheAgain);
+    private PublicHolidaysCollection createCollection(String snapshot) {
+        return new PublicHolidaysCollection(bankHolidaysApi, new ObjectMapper(), meterRegistry, snapshot);
     }
 
     private static BankHolidays createExpectedResponse() {
@@ -1,8 +1,10 @@
 package uk.gov.hmcts.reform.unspec.service.docmosis;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,21 +14,28 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 import uk.gov.hmcts.reform.unspec.config.DocmosisConfiguration;
 import uk.gov.hmcts.reform.unspec.model.docmosis.DocmosisDocument;
 import uk.gov.hmcts.reform.unspec.model.docmosis.DocmosisRequest;
 import uk.gov.hmcts.reform.unspec.model.docmosis.sealedclaim.SealedClaimForm;
+import uk.gov.hmcts.reform.unspec.model.documents.DocumentContent;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.unspec.service.docmosis.DocmosisTemplates.N1;
 import static uk.gov.hmcts.reform.unspec.service.docmosis.DocumentGeneratorService.API_RENDER;
@@ -39,7 +48,7 @@ class DocumentGeneratorServiceTest {
     private RestTemplate restTemplate;
 
     @Mock
-    private ResponseEntity<byte[]> tornadoResponse;
+    private ClientHttpResponse tornadoResponse;
 
     @MockBean
     private DocmosisConfiguration configuration;
@@ -50,28 +59,50 @@ class DocumentGeneratorServiceTest {
     @Autowired
     private DocumentGeneratorService documentGeneratorService;
 
+    @BeforeEach
+    void setUp() {
+        when(configuration.getSpoolThreshold()).thenReturn(DataSize.ofBytes(4));
+    }
+
     @Test
-    void shouldInvokesTornado() {
+    void shouldInvokesTornado() throws IOException {
         SealedClaimForm sealedClaimForm = SealedClaimForm.builder().issueDate(LocalDate.now()).build();
-
-        when(restTemplate.exchange(eq(configuration.getUrl() + API_RENDER),
-                                   eq(HttpMethod.POST), argumentCaptor.capture(), eq(byte[].class)
-        )).thenReturn(tornadoResponse);
-
         byte[] expectedResponse = {1, 2, 3};
-        when(tornadoResponse.getBody()).thenReturn(expectedResponse);
+        when(tornadoResponse.getBody()).thenReturn(new ByteArrayInputStream(expectedResponse));
+        whenTornadoRenders();
 
         DocmosisDocument docmosisDocument = documentGeneratorService.generateDocmosisDocument(sealedClaimForm, N1);
-        assertThat(docmosisDocument.getBytes()).isEqualTo(expectedResponse);
+        assertThat(docmosisDocument.getContent().getBytes()).isEqualTo(expectedResponse);
+        assertThat(docmosisDocument.getContent().isInMemory()).isTrue();
 
+        verify(restTemplate).httpEntityCallback(argumentCaptor.capture());
         assertThat(argumentCaptor.getValue().getBody().getTemplateName()).isEqualTo(N1.getTemplate());
         assertThat(argumentCaptor.getValue().getBody().getOutputFormat()).isEqualTo("pdf");
     }
 
+    @Test
+    void shouldSpoolDocumentToFile_whenLargerThanThreshold() throws IOException {
+        SealedClaimForm sealedClaimForm = SealedClaimForm.builder().issueDate(LocalDate.now()).build();
+        byte[] expectedResponse = {1, 2, 3, 4, 5, 6, 7, 8};
+        when(tornadoResponse.getBody()).thenReturn(new ByteArrayInputStream(expectedResponse));
+        whenTornadoRenders();
+
+        DocmosisDocument docmosisDocument = documentGeneratorService.generateDocmosisDocument(sealedClaimForm, N1);
+
+        try (DocumentContent content = docmosisDocument.getContent()) {
+            assertThat(content.isInMemory()).isFalse();
+            assertThat(content.getSize()).isEqualTo(expectedResponse.length);
+            assertThat(content.getInputStream()).hasBinaryContent(expectedResponse);
+        }
+    }
+
     @Test
     void shouldThrowWhenTornadoFails() {
-        when(restTemplate.exchange(eq(configuration.getUrl() + API_RENDER),
-                                   eq(HttpMethod.POST), argumentCaptor.capture(), eq(byte[].class)
+        when(restTemplate.execute(
+            eq(configuration.getUrl() + API_RENDER),
+            eq(HttpMethod.POST),
+            any(),
+            ArgumentMatchers.<ResponseExtractor<DocumentContent>>any()
         )).thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND, "not found"));
 
         Map<String, Object> placeholders = Map.of();
@@ -83,5 +114,14 @@ class DocumentGeneratorServiceTest {
 
         assertThat(httpClientErrorException).hasMessageContaining("404 not found");
     }
-}
 
+    private void whenTornadoRenders() {
+        when(restTemplate.execute(
+            eq(configuration.getUrl() + API_RENDER),
+            eq(HttpMethod.POST),
+            any(),
+            ArgumentMatchers.<ResponseExtractor<DocumentContent>>any()
+        )).thenAnswer(invocation -> invocation.<ResponseExtractor<DocumentContent>>getArgument(3)
+            .extractData(tornadoResponse));
+    }
+}
@@ -0,0 +1,130 @@
+package uk.gov.hmcts.reform.unspec.service.docmosis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.reform.unspec.model.docmosis.sealedclaim.SealedClaimForm;
+import uk.gov.hmcts.reform.unspec.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.unspec.repositories.GeneratedDocumentRepository;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDocumentBuilder;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.unspec.model.documents.DocumentType.SEALED_CLAIM;
+import static uk.gov.hmcts.reform.unspec.service.docmosis.DocmosisTemplates.N1;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {
+    GeneratedDocumentStore.class,
+    JacksonAutoConfiguration.class
+})
+@TestPropertySource(properties = "generated-documents.retention=P7D")
+class GeneratedDocumentStoreTest {
+
+    private static final Long CASE_REFERENCE = 1594901956117591L;
+    private static final CaseDocument CASE_DOCUMENT = CaseDocumentBuilder.builder()
+        .documentName("000LR001.pdf")
+        .documentType(SEALED_CLAIM)
+        .build();
+    private static final SealedClaimForm TEMPLATE_DATA = SealedClaimForm.builder()
+        .referenceNumber("000LR001")
+        .submittedOn(LocalDate.of(2021, 3, 15))
+        .build();
+
+    private final AtomicInteger generated = new AtomicInteger();
+    private final Supplier<CaseDocument> generator = () -> {
+        generated.incrementAndGet();
+        return CASE_DOCUMENT;
+    };
+
+    @MockBean
+    private GeneratedDocumentRepository generatedDocumentRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private GeneratedDocumentStore generatedDocumentStore;
+
+    @Test
+    void shouldGenerateAndSaveDocument_whenNotGeneratedBefore() throws Exception {
+        CaseDocument caseDocument = generatedDocumentStore.getOrGenerate(CASE_REFERENCE, N1, TEMPLATE_DATA, generator);
+
+        assertThat(caseDocument).isEqualTo(CASE_DOCUMENT);
+        assertThat(generated).hasValue(1);
+        verify(generatedDocumentRepository).save(
+            eq(CASE_REFERENCE),
+            eq("N1"),
+            anyString(),
+            eq(objectMapper.writeValueAsString(CASE_DOCUMENT))
+        );
+    }
+
+    @Test
+    void shouldReuseDocument_whenAlreadyGeneratedFromSameTemplateData() throws Exception {
+        when(generatedDocumentRepository.findCaseDocument(eq(CASE_REFERENCE), eq("N1"), anyString()))
+            .thenReturn(Optional.of(objectMapper.writeValueAsString(CASE_DOCUMENT)));
+
+        CaseDocument caseDocument = generatedDocumentStore.getOrGenerate(CASE_REFERENCE, N1, TEMPLATE_DATA, generator);
+
+        assertThat(caseDocument).isEqualTo(CASE_DOCUMENT);
+        assertThat(generated).hasValue(0);
+        verify(generatedDocumentRepository, never()).save(anyLong(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void shouldGenerateDocument_whenLookupFails() {
+        when(generatedDocumentRepository.findCaseDocument(any(), any(), any()))
+            .thenThrow(new IllegalStateException("connection refused"));
+
+        CaseDocument caseDocument = generatedDocumentStore.getOrGenerate(CASE_REFERENCE, N1, TEMPLATE_DATA, generator);
+
+        assertThat(caseDocument).isEqualTo(CASE_DOCUMENT);
+        assertThat(generated).hasValue(1);
+    }
+
+    @Test
+    void shouldGenerateDocumentWithoutStoring_whenNoCaseReference() {
+        CaseDocument caseDocument = generatedDocumentStore.getOrGenerate(null, N1, TEMPLATE_DATA, generator);
+
+        assertThat(caseDocument).isEqualTo(CASE_DOCUMENT);
+        assertThat(generated).hasValue(1);
+        verifyNoInteractions(generatedDocumentRepository);
+    }
+
+    @Test
+    void shouldDeleteDocumentsOlderThanRetention_whenExpiredDeleted() {
+        generatedDocumentStore.deleteExpired();
+
+        verify(generatedDocumentRepository).deleteCreatedBefore(Duration.ofDays(7).toSeconds());
+    }
+
+    @Test
+    void shouldNotThrow_whenDeletingExpiredDocumentsFails() {
+        when(generatedDocumentRepository.deleteCreatedBefore(anyLong()))
+            .thenThrow(new IllegalStateException("connection refused"));
+
+        generatedDocumentStore.deleteExpired();
+
+        verify(generatedDocumentRepository).deleteCreatedBefore(anyLong());
+    }
+}
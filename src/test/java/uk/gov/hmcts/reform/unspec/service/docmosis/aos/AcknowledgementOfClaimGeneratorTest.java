@@ -18,10 +18,13 @@ import uk.gov.hmcts.reform.unspec.model.docmosis.aos.AcknowledgementOfClaimForm;
 import uk.gov.hmcts.reform.unspec.model.docmosis.common.Respondent;
 import uk.gov.hmcts.reform.unspec.model.docmosis.sealedclaim.Representative;
 import uk.gov.hmcts.reform.unspec.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.unspec.model.documents.DocumentContent;
 import uk.gov.hmcts.reform.unspec.model.documents.PDF;
+import uk.gov.hmcts.reform.unspec.repositories.GeneratedDocumentRepository;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDocumentBuilder;
 import uk.gov.hmcts.reform.unspec.service.docmosis.DocumentGeneratorService;
+import uk.gov.hmcts.reform.unspec.service.docmosis.GeneratedDocumentStore;
 import uk.gov.hmcts.reform.unspec.service.docmosis.RepresentativeService;
 import uk.gov.hmcts.reform.unspec.service.documentmanagement.DocumentManagementService;
 
@@ -41,7 +44,8 @@ import static uk.gov.hmcts.reform.unspec.utils.DocmosisTemplateDataUtils.toCaseN
 @ExtendWith(SpringExtension.class)
 @ContextConfiguration(classes = {
     AcknowledgementOfClaimGenerator.class,
-    JacksonAutoConfiguration.class
+    JacksonAutoConfiguration.class,
+    GeneratedDocumentStore.class
 })
 class AcknowledgementOfClaimGeneratorTest {
 
@@ -59,6 +63,9 @@ class AcknowledgementOfClaimGeneratorTest {
     @MockBean
     private DocumentManagementService documentManagementService;
 
+    @MockBean
+    private GeneratedDocumentRepository generatedDocumentRepository;
+
     @MockBean
     private DocumentGeneratorService documentGeneratorService;
 
@@ -76,10 +83,10 @@ class AcknowledgementOfClaimGeneratorTest {
     @Test
     void shouldGenerateAcknowledgementOfClaim_whenValidDataIsProvided() {
         when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N9)))
-            .thenReturn(new DocmosisDocument(N9.getDocumentTitle(), bytes));
+            .thenReturn(new DocmosisDocument(N9.getDocumentTitle(), DocumentContent.of(bytes)));
 
         when(documentManagementService
-                 .uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, ACKNOWLEDGEMENT_OF_CLAIM)))
+                 .uploadDocument(BEARER_TOKEN, new PDF(fileName, DocumentContent.of(bytes), ACKNOWLEDGEMENT_OF_CLAIM)))
             .thenReturn(CASE_DOCUMENT);
 
         CaseData caseData = CaseDataBuilder.builder().atStateClaimAcknowledge().build();
@@ -103,7 +110,7 @@ class AcknowledgementOfClaimGeneratorTest {
 
         verify(representativeService).getRespondentRepresentative(caseData);
         verify(documentManagementService)
-            .uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, ACKNOWLEDGEMENT_OF_CLAIM));
+            .uploadDocument(BEARER_TOKEN, new PDF(fileName, DocumentContent.of(bytes), ACKNOWLEDGEMENT_OF_CLAIM));
         verify(documentGeneratorService)
             .generateDocmosisDocument(expectedDocmosisData, N9);
     }
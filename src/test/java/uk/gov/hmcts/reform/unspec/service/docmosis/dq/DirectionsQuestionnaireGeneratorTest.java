@@ -28,12 +28,15 @@ import uk.gov.hmcts.reform.unspec.model.docmosis.dq.WelshLanguageRequirements;
 import uk.gov.hmcts.reform.unspec.model.docmosis.dq.Witnesses;
 import uk.gov.hmcts.reform.unspec.model.docmosis.sealedclaim.Representative;
 import uk.gov.hmcts.reform.unspec.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.unspec.model.documents.DocumentContent;
 import uk.gov.hmcts.reform.unspec.model.documents.PDF;
 import uk.gov.hmcts.reform.unspec.model.dq.DQ;
 import uk.gov.hmcts.reform.unspec.model.dq.HearingSupport;
+import uk.gov.hmcts.reform.unspec.repositories.GeneratedDocumentRepository;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDocumentBuilder;
 import uk.gov.hmcts.reform.unspec.service.docmosis.DocumentGeneratorService;
+import uk.gov.hmcts.reform.unspec.service.docmosis.GeneratedDocumentStore;
 import uk.gov.hmcts.reform.unspec.service.docmosis.RepresentativeService;
 import uk.gov.hmcts.reform.unspec.service.documentmanagement.DocumentManagementService;
 import uk.gov.hmcts.reform.unspec.service.flowstate.StateFlowEngine;
@@ -61,7 +64,8 @@ import static uk.gov.hmcts.reform.unspec.utils.ElementUtils.unwrapElements;
     DirectionsQuestionnaireGenerator.class,
     JacksonAutoConfiguration.class,
     StateFlowEngine.class,
-    CaseDetailsConverter.class
+    CaseDetailsConverter.class,
+    GeneratedDocumentStore.class
 })
 class DirectionsQuestionnaireGeneratorTest {
 
@@ -79,6 +83,9 @@ class DirectionsQuestionnaireGeneratorTest {
     @MockBean
     private DocumentManagementService documentManagementService;
 
+    @MockBean
+    private GeneratedDocumentRepository generatedDocumentRepository;
+
     @MockBean
     private DocumentGeneratorService documentGeneratorService;
 
@@ -96,9 +103,10 @@ class DirectionsQuestionnaireGeneratorTest {
     @Test
     void shouldGenerateCertificateOfService_whenValidDataIsProvided() {
         when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N181)))
-            .thenReturn(new DocmosisDocument(N181.getDocumentTitle(), bytes));
+            .thenReturn(new DocmosisDocument(N181.getDocumentTitle(), DocumentContent.of(bytes)));
 
-        when(documentManagementService.uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, DIRECTIONS_QUESTIONNAIRE)))
+        when(documentManagementService
+                 .uploadDocument(BEARER_TOKEN, new PDF(fileName, DocumentContent.of(bytes), DIRECTIONS_QUESTIONNAIRE)))
             .thenReturn(CASE_DOCUMENT);
 
         CaseData caseData = CaseDataBuilder.builder().atStateRespondentFullDefence().build();
@@ -108,7 +116,7 @@ class DirectionsQuestionnaireGeneratorTest {
 
         verify(representativeService).getRespondentRepresentative(caseData);
         verify(documentManagementService)
-            .uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, DIRECTIONS_QUESTIONNAIRE));
+            .uploadDocument(BEARER_TOKEN, new PDF(fileName, DocumentContent.of(bytes), DIRECTIONS_QUESTIONNAIRE));
         verify(documentGeneratorService).generateDocmosisDocument(any(DirectionsQuestionnaireForm.class), eq(N181));
     }
 
@@ -23,10 +23,13 @@ import uk.gov.hmcts.reform.unspec.model.docmosis.common.Respondent;
 import uk.gov.hmcts.reform.unspec.model.docmosis.sealedclaim.Representative;
 import uk.gov.hmcts.reform.unspec.model.docmosis.sealedclaim.SealedClaimForm;
 import uk.gov.hmcts.reform.unspec.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.unspec.model.documents.DocumentContent;
 import uk.gov.hmcts.reform.unspec.model.documents.PDF;
+import uk.gov.hmcts.reform.unspec.repositories.GeneratedDocumentRepository;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDocumentBuilder;
 import uk.gov.hmcts.reform.unspec.service.docmosis.DocumentGeneratorService;
+import uk.gov.hmcts.reform.unspec.service.docmosis.GeneratedDocumentStore;
 import uk.gov.hmcts.reform.unspec.service.docmosis.RepresentativeService;
 import uk.gov.hmcts.reform.unspec.service.documentmanagement.DocumentManagementService;
 import uk.gov.hmcts.reform.unspec.utils.DocmosisTemplateDataUtils;
@@ -50,7 +53,8 @@ import static uk.gov.hmcts.reform.unspec.utils.DocmosisTemplateDataUtils.toCaseN
 @ContextConfiguration(classes = {
     SealedClaimFormGenerator.class,
     JacksonAutoConfiguration.class,
-    CaseDetailsConverter.class
+    CaseDetailsConverter.class,
+    GeneratedDocumentStore.class
 })
 class SealedClaimFormGeneratorTest {
 
@@ -68,6 +72,8 @@ class SealedClaimFormGeneratorTest {
     @MockBean
     private DocumentManagementService documentManagementService;
     @MockBean
+    private GeneratedDocumentRepository generatedDocumentRepository;
+    @MockBean
     private DocumentGeneratorService documentGeneratorService;
     @Autowired
     private SealedClaimFormGenerator sealedClaimFormGenerator;
@@ -84,16 +90,18 @@ class SealedClaimFormGeneratorTest {
         CaseData caseData = CaseDataBuilder.builder().atStateClaimCreated().build();
 
         when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N1)))
-            .thenReturn(new DocmosisDocument(N1.getDocumentTitle(), bytes));
+            .thenReturn(new DocmosisDocument(N1.getDocumentTitle(), DocumentContent.of(bytes)));
 
-        when(documentManagementService.uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, SEALED_CLAIM)))
+        when(documentManagementService
+                 .uploadDocument(BEARER_TOKEN, new PDF(fileName, DocumentContent.of(bytes), SEALED_CLAIM)))
             .thenReturn(CASE_DOCUMENT);
 
         CaseDocument caseDocument = sealedClaimFormGenerator.generate(caseData, BEARER_TOKEN);
         assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT);
 
         verify(representativeService).getRespondentRepresentative(caseData);
-        verify(documentManagementService).uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, SEALED_CLAIM));
+        verify(documentManagementService)
+            .uploadDocument(BEARER_TOKEN, new PDF(fileName, DocumentContent.of(bytes), SEALED_CLAIM));
         verify(documentGeneratorService).generateDocmosisDocument(any(SealedClaimForm.class), eq(N1));
     }
 
@@ -9,22 +9,27 @@ import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.document.DocumentDownloadClientApi;
 import uk.gov.hmcts.reform.document.DocumentMetadataDownloadClientApi;
-import uk.gov.hmcts.reform.document.DocumentUploadClientApi;
-import uk.gov.hmcts.reform.document.domain.Classification;
 import uk.gov.hmcts.reform.document.domain.Document;
 import uk.gov.hmcts.reform.document.domain.UploadResponse;
-import uk.gov.hmcts.reform.document.utils.InMemoryMultipartFile;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 import uk.gov.hmcts.reform.unspec.config.DocumentManagementConfiguration;
 import uk.gov.hmcts.reform.unspec.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.unspec.model.documents.DocumentContent;
 import uk.gov.hmcts.reform.unspec.model.documents.PDF;
 import uk.gov.hmcts.reform.unspec.service.UserService;
 
@@ -32,29 +37,40 @@ import java.net.URI;
 import java.util.List;
 
 import static java.lang.String.format;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.springframework.http.MediaType.APPLICATION_PDF_VALUE;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 import static uk.gov.hmcts.reform.unspec.model.documents.DocumentType.SEALED_CLAIM;
 import static uk.gov.hmcts.reform.unspec.service.documentmanagement.DocumentDownloadException.MESSAGE_TEMPLATE;
-import static uk.gov.hmcts.reform.unspec.service.documentmanagement.DocumentManagementService.FILES_NAME;
+import static uk.gov.hmcts.reform.unspec.service.documentmanagement.DocumentManagementService.API_DOCUMENTS;
 import static uk.gov.hmcts.reform.unspec.utils.ResourceReader.readString;
 
-@SpringBootTest(classes = {
-    DocumentManagementService.class,
-    JacksonAutoConfiguration.class,
-    DocumentManagementConfiguration.class
-})
+@SpringBootTest(
+    classes = {
+        DocumentManagementService.class,
+        JacksonAutoConfiguration.class,
+        DocumentManagementConfiguration.class
+    },
+    properties = "document_management.url=" + DocumentManagementServiceTest.DOCUMENT_MANAGEMENT_URL
+)
+@Import(DocumentManagementServiceTest.RestTemplateConfiguration.class)
 class DocumentManagementServiceTest {
 
-    private static final List<String> USER_ROLES = List.of("caseworker-civil", "caseworker-civil-solicitor");
+    static final String DOCUMENT_MANAGEMENT_URL = "http://dm-store";
+
     private static final String USER_ROLES_JOINED = "caseworker-civil,caseworker-civil-solicitor";
     public static final String BEARER_TOKEN = "Bearer Token";
 
@@ -63,8 +79,6 @@ class DocumentManagementServiceTest {
     @MockBean
     private DocumentDownloadClientApi documentDownloadClient;
     @MockBean
-    private DocumentUploadClientApi documentUploadClient;
-    @MockBean
     private AuthTokenGenerator authTokenGenerator;
     @MockBean
     private UserService userService;
@@ -75,6 +89,9 @@ class DocumentManagementServiceTest {
     @Autowired
     private DocumentManagementService documentManagementService;
 
+    @Autowired
+    private RestTemplate documentManagementRestTemplate;
+
     @Mock
     private ResponseEntity<Resource> responseEntity;
     private final UserInfo userInfo = UserInfo.builder()
@@ -85,6 +102,15 @@ class DocumentManagementServiceTest {
         .sub("mail@mail.com")
         .build();
 
+    @TestConfiguration
+    static class RestTemplateConfiguration {
+
+        @Bean
+        RestTemplate documentManagementRestTemplate() {
+            return new RestTemplate();
+        }
+    }
+
     @BeforeEach
     public void setUp() {
         when(authTokenGenerator.generate()).thenReturn(BEARER_TOKEN);
@@ -94,29 +120,35 @@ class DocumentManagementServiceTest {
     @Nested
     class UploadDocument {
 
+        private MockRestServiceServer documentManagement;
+
+        @BeforeEach
+        void setUp() {
+            documentManagement = MockRestServiceServer.bindTo(documentManagementRestTemplate).build();
+        }
+
         @Test
         void shouldUploadToDocumentManagement() throws JsonProcessingException {
-            PDF document = new PDF("0000-claim.pdf", "test".getBytes(), SEALED_CLAIM);
-
-            List<MultipartFile> files = List.of(new InMemoryMultipartFile(
-                FILES_NAME,
-                document.getFileBaseName(),
-                APPLICATION_PDF_VALUE,
-                document.getBytes()
-            ));
+            PDF document = new PDF("0000-claim.pdf", DocumentContent.of("test".getBytes()), SEALED_CLAIM);
 
             UploadResponse uploadResponse = mapper.readValue(
                 readString("document-management/response.success.json"), UploadResponse.class);
 
-            when(documentUploadClient.upload(
-                anyString(),
-                anyString(),
-                anyString(),
-                eq(USER_ROLES),
-                any(Classification.class),
-                eq(files)
-                 )
-            ).thenReturn(uploadResponse);
+            documentManagement.expect(requestTo(DOCUMENT_MANAGEMENT_URL + API_DOCUMENTS))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN))
+                .andExpect(header("ServiceAuthorization", BEARER_TOKEN))
+                .andExpect(header("user-id", userInfo.getUid()))
+                .andExpect(content().string(allOf(
+                    containsString("name=\"files\"; filename=\"0000-claim.pdf\""),
+                    containsString("test"),
+                    containsString("RESTRICTED"),
+                    containsString("caseworker-civil-solicitor")
+                )))
+                .andRespond(withSuccess(
+                    readString("document-management/response.success.json"),
+                    MediaType.APPLICATION_JSON
+                ));
 
             CaseDocument caseDocument = documentManagementService.uploadDocument(BEARER_TOKEN, document);
             assertNotNull(caseDocument.getDocumentLink());
@@ -125,31 +157,18 @@ class DocumentManagementServiceTest {
                 caseDocument.getDocumentLink().getDocumentUrl()
             );
 
-            verify(documentUploadClient)
-                .upload(anyString(), anyString(), anyString(), eq(USER_ROLES), any(Classification.class), eq(files));
+            documentManagement.verify();
         }
 
         @Test
-        void shouldThrow_whenUploadDocumentFails() throws JsonProcessingException {
-            PDF document = new PDF("0000-failed-claim.pdf", "failed-test".getBytes(), SEALED_CLAIM);
-
-            List<MultipartFile> files = List.of(new InMemoryMultipartFile(
-                FILES_NAME,
-                document.getFileBaseName(),
-                APPLICATION_PDF_VALUE,
-                document.getBytes()
-            ));
+        void shouldThrow_whenUploadDocumentFails() {
+            PDF document = new PDF("0000-failed-claim.pdf", DocumentContent.of("failed-test".getBytes()), SEALED_CLAIM);
 
-            when(documentUploadClient.upload(
-                anyString(),
-                anyString(),
-                anyString(),
-                eq(USER_ROLES),
-                any(Classification.class),
-                eq(files)
-                 )
-            ).thenReturn(mapper.readValue(
-                readString("document-management/response.failure.json"), UploadResponse.class));
+            documentManagement.expect(requestTo(DOCUMENT_MANAGEMENT_URL + API_DOCUMENTS))
+                .andRespond(withSuccess(
+                    readString("document-management/response.failure.json"),
+                    MediaType.APPLICATION_JSON
+                ));
 
             DocumentUploadException documentManagementException = assertThrows(
                 DocumentUploadException.class,
@@ -161,8 +180,20 @@ class DocumentManagementServiceTest {
                 documentManagementException.getMessage()
             );
 
-            verify(documentUploadClient)
-                .upload(anyString(), anyString(), anyString(), eq(USER_ROLES), any(Classification.class), eq(files));
+            documentManagement.verify();
+        }
+
+        @Test
+        void shouldThrow_whenDocumentManagementRejectsUpload() {
+            PDF document = new PDF("0000-failed-claim.pdf", DocumentContent.of("failed-test".getBytes()), SEALED_CLAIM);
+
+            documentManagement.expect(requestTo(DOCUMENT_MANAGEMENT_URL + API_DOCUMENTS))
+                .andRespond(withServerError());
+
+            assertThrows(
+                DocumentUploadException.class,
+                () -> documentManagementService.uploadDocument(BEARER_TOKEN, document)
+            );
         }
     }
 
@@ -0,0 +1,39 @@
+package uk.gov.hmcts.reform.unspec.service.flowstate;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.unspec.stateflow.StateFlow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    classes = {
+        JacksonAutoConfiguration.class,
+        CaseDetailsConverter.class,
+        StateFlowEngine.class
+    },
+    properties = "stateflow.evaluation-mode=CONFORMANCE"
+)
+class StateFlowEngineConformanceTest {
+
+    @Autowired
+    private StateFlowEngine stateFlowEngine;
+
+    @ParameterizedTest
+    @EnumSource(FlowState.Main.class)
+    void shouldEvaluateSameStateHistoryWithBothBackends(FlowState.Main flowState) {
+        CaseData caseData = CaseDataBuilder.builder().atState(flowState).build();
+
+        StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+
+        assertThat(stateFlow.getStateHistory())
+            .isNotEmpty()
+            .isEqualTo(stateFlowEngine.build().evaluate(caseData).getStateHistory());
+    }
+}
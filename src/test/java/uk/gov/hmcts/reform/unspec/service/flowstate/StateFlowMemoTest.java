@@ -0,0 +1,111 @@
+package uk.gov.hmcts.reform.unspec.service.flowstate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.unspec.sampledata.CaseDetailsBuilder;
+import uk.gov.hmcts.reform.unspec.stateflow.StateFlow;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {
+    JacksonAutoConfiguration.class,
+    CaseDetailsConverter.class,
+    StateFlowEngine.class
+})
+class StateFlowMemoTest {
+
+    @Autowired
+    private StateFlowEngine stateFlowEngine;
+
+    @Test
+    void shouldEvaluateOnce_whenSameCaseEvaluatedAgainWithinCallback() {
+        CaseData caseData = CaseDataBuilder.builder().atStateClaimCreated().build();
+
+        List<StateFlow> stateFlows = StateFlowMemo.within(
+            () -> List.of(stateFlowEngine.evaluate(caseData), stateFlowEngine.evaluate(caseData))
+        );
+
+        assertThat(stateFlows.get(1)).isSameAs(stateFlows.get(0));
+    }
+
+    @Test
+    void shouldEvaluateOnce_whenSameCaseDetailsEvaluatedAgainWithinCallback() {
+        CaseDetails caseDetails = CaseDetailsBuilder.builder().atStateClaimCreated().build();
+
+        List<StateFlow> stateFlows = StateFlowMemo.within(() -> List.of(
+            stateFlowEngine.evaluate(caseDetails),
+            stateFlowEngine.evaluate(caseDetails)
+        ));
+
+        assertThat(stateFlows.get(1)).isSameAs(stateFlows.get(0));
+    }
+
+    @Test
+    void shouldEvaluateAgain_whenOtherCaseEvaluatedWithinCallback() {
+        CaseData caseData = CaseDataBuilder.builder().atStateClaimCreated().build();
+
+        List<StateFlow> stateFlows = StateFlowMemo.within(() -> List.of(
+            stateFlowEngine.evaluate(caseData),
+            stateFlowEngine.evaluate(caseData.toBuilder().legacyCaseReference("100MC001").build())
+        ));
+
+        assertThat(stateFlows.get(1)).isNotSameAs(stateFlows.get(0));
+    }
+
+    @Test
+    void shouldKeepEvaluations_whenNestedCallbackFinishes() {
+        CaseData caseData = CaseDataBuilder.builder().atStateClaimCreated().build();
+
+        List<StateFlow> stateFlows = StateFlowMemo.within(() -> List.of(
+            StateFlowMemo.within(() -> stateFlowEngine.evaluate(caseData)),
+            stateFlowEngine.evaluate(caseData)
+        ));
+
+        assertThat(stateFlows.get(1)).isSameAs(stateFlows.get(0));
+    }
+
+    @Test
+    void shouldEvaluateAgain_whenCallbackFinished() {
+        CaseData caseData = CaseDataBuilder.builder().atStateClaimCreated().build();
+
+        StateFlow first = StateFlowMemo.within(() -> stateFlowEngine.evaluate(caseData));
+        StateFlow second = StateFlowMemo.within(() -> stateFlowEngine.evaluate(caseData));
+
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    void shouldEvaluateEveryTime_whenOutsideOfCallback() {
+        CaseData caseData = CaseDataBuilder.builder().atStateClaimCreated().build();
+
+        assertThat(stateFlowEngine.evaluate(caseData)).isNotSameAs(stateFlowEngine.evaluate(caseData));
+    }
+
+    @Test
+    void shouldCountHitsAndMisses_whenBoundToMeterRegistry() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new StateFlowMemoMetrics().bindTo(meterRegistry);
+        double hits = count(meterRegistry, "hit");
+        double misses = count(meterRegistry, "miss");
+        CaseData caseData = CaseDataBuilder.builder().atStateClaimCreated().build();
+
+        StateFlowMemo.within(() -> List.of(stateFlowEngine.evaluate(caseData), stateFlowEngine.evaluate(caseData)));
+
+        assertThat(count(meterRegistry, "hit")).isEqualTo(hits + 1);
+        assertThat(count(meterRegistry, "miss")).isEqualTo(misses + 1);
+    }
+
+    private static double count(MeterRegistry meterRegistry, String result) {
+        return meterRegistry.get("stateflow.memo").tag("result", result).functionCounter().count();
+    }
+}
@@ -1,5 +1,8 @@
 package uk.gov.hmcts.reform.unspec.service.robotics;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -14,7 +17,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class JsonSchemaValidationServiceTest {
 
-    JsonSchemaValidationService validationService = new JsonSchemaValidationService("sample-json-schema.json");
+    private static final String SCHEMA = "sample-json-schema.json";
+    private static final String METRIC = "json.schema.validation";
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    JsonSchemaValidationService validationService = new JsonSchemaValidationService(SCHEMA, meterRegistry);
 
     @Nested
     class IsValid {
@@ -78,6 +85,32 @@ class JsonSchemaValidationServiceTest {
             assertThat(errors).isEmpty();
         }
 
+        @Test
+        void shouldReturnValidationErrors_whenJsonNodeIsNotValid() {
+            ObjectNode payload = JsonNodeFactory.instance.objectNode().put("name", "Joe").put("age", -1);
+
+            assertThat(validationService.validate(payload))
+                .extracting("message")
+                .containsExactly("$.age: must have a minimum value of 0");
+        }
+
+        @Test
+        void shouldReturnNoErrors_whenJsonNodeIsValid() {
+            ObjectNode payload = JsonNodeFactory.instance.objectNode().put("name", "Joe").put("age", 10);
+
+            assertThat(validationService.validate(payload)).isEmpty();
+        }
+
+        @Test
+        void shouldCountValidationOutcomes_whenValidated() {
+            validationService.validate("{\"name\": \"Joe\",\"age\": 10}");
+            validationService.validate("{\"name\": \"Joe\",\"age\": -1}");
+            validationService.validate("{\"name\": \"Joe\",\"age\": 11}");
+
+            assertThat(meterRegistry.counter(METRIC, "schema", SCHEMA, "outcome", "valid").count()).isEqualTo(2);
+            assertThat(meterRegistry.counter(METRIC, "schema", SCHEMA, "outcome", "invalid").count()).isEqualTo(1);
+        }
+
         @Test
         void shouldThrowJsonSchemaValidationException_whenJsonSchemaFileDoesNotExist() {
             Exception exception = assertThrows(
@@ -103,7 +136,7 @@ class JsonSchemaValidationServiceTest {
 
         @Test
         void shouldReturnSchemaFile_whenInvoked() {
-            assertThat(new JsonSchemaValidationService("/another-schema-file.json").getJsonSchemaFile())
+            assertThat(new JsonSchemaValidationService("/another-schema-file.json", meterRegistry).getJsonSchemaFile())
                 .isEqualTo("/another-schema-file.json");
         }
     }
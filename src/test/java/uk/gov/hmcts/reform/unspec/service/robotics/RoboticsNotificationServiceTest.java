@@ -1,36 +1,41 @@
 package uk.gov.hmcts.reform.unspec.service.robotics;
 
-import lombok.SneakyThrows;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
-import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
-import uk.gov.hmcts.reform.prd.client.OrganisationApi;
-import uk.gov.hmcts.reform.unspec.config.PrdAdminUserConfiguration;
 import uk.gov.hmcts.reform.unspec.config.properties.robotics.RoboticsEmailConfiguration;
-import uk.gov.hmcts.reform.unspec.helpers.CaseDetailsConverter;
-import uk.gov.hmcts.reform.unspec.model.CaseData;
-import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.unspec.sendgrid.EmailData;
 import uk.gov.hmcts.reform.unspec.sendgrid.SendGridClient;
-import uk.gov.hmcts.reform.unspec.service.OrganisationService;
-import uk.gov.hmcts.reform.unspec.service.flowstate.StateFlowEngine;
-import uk.gov.hmcts.reform.unspec.service.robotics.mapper.EventHistoryMapper;
-import uk.gov.hmcts.reform.unspec.service.robotics.mapper.RoboticsAddressMapper;
-import uk.gov.hmcts.reform.unspec.service.robotics.mapper.RoboticsDataMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
@@ -38,13 +43,7 @@ import static org.mockito.Mockito.verify;
     classes = {
         RoboticsEmailConfiguration.class,
         RoboticsNotificationService.class,
-        JacksonAutoConfiguration.class,
-        CaseDetailsConverter.class,
-        StateFlowEngine.class,
-        EventHistoryMapper.class,
-        RoboticsDataMapper.class,
-        RoboticsAddressMapper.class,
-        OrganisationService.class
+        SimpleMeterRegistry.class
     },
     properties = {
         "sendgrid.api-key:some-key",
@@ -54,39 +53,33 @@ import static org.mockito.Mockito.verify;
 )
 class RoboticsNotificationServiceTest {
 
+    private static final String REFERENCE = "000LR001";
+
     @Autowired
     RoboticsNotificationService service;
     @Autowired
     RoboticsEmailConfiguration emailConfiguration;
+    @Autowired
+    MeterRegistry meterRegistry;
 
     @Captor
     private ArgumentCaptor<EmailData> emailDataArgumentCaptor;
 
     @MockBean
     SendGridClient sendGridClient;
-    @MockBean
-    OrganisationApi organisationApi;
-    @MockBean
-    AuthTokenGenerator authTokenGenerator;
-    @MockBean
-    IdamClient idamClient;
-    @MockBean
-    PrdAdminUserConfiguration userConfig;
 
     @Test
-    @SneakyThrows
-    void shouldSendNotificationEmail_whenCaseDataIsProvided() {
-        CaseData caseData = CaseDataBuilder.builder().atStateClaimCreated().build();
+    void shouldSendNotificationEmail_whenRoboticsJsonIsProvided() {
+        byte[] roboticsJson = "{\"header\":{}}".getBytes(StandardCharsets.UTF_8);
 
-        service.notifyRobotics(caseData);
+        service.notifyRobotics(REFERENCE, roboticsJson);
 
         verify(sendGridClient).sendEmail(eq(emailConfiguration.getSender()), emailDataArgumentCaptor.capture());
 
         EmailData capturedEmailData = emailDataArgumentCaptor.getValue();
-        String reference = caseData.getLegacyCaseReference();
-        String fileName = format("CaseData_%s.json", reference);
-        String message = format("Robotics case data JSON is attached for %s", reference);
-        String subject = format("Robotics case data for %s", reference);
+        String fileName = format("CaseData_%s.json", REFERENCE);
+        String message = format("Robotics case data JSON is attached for %s", REFERENCE);
+        String subject = format("Robotics case data for %s", REFERENCE);
 
         assertThat(capturedEmailData.getSubject()).isEqualTo(subject);
         assertThat(capturedEmailData.getMessage()).isEqualTo(message);
@@ -95,11 +88,105 @@ class RoboticsNotificationServiceTest {
         assertThat(capturedEmailData.getAttachments())
             .extracting("filename", "contentType")
             .containsExactlyInAnyOrder(tuple(fileName, "application/json"));
+        assertThat(meterRegistry.counter("robotics.notification.cases", "result", "delivered").count()).isEqualTo(1);
     }
 
     @Test
-    void shouldThrowNullPointerException_whenCaseDataIsNull() {
+    void shouldThrowNullPointerException_whenReferenceIsNull() {
+        byte[] roboticsJson = "{}".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(NullPointerException.class, () ->
+            service.notifyRobotics(null, roboticsJson));
+    }
+
+    @Test
+    void shouldThrowNullPointerException_whenRoboticsJsonIsNull() {
         assertThrows(NullPointerException.class, () ->
-            service.notifyRobotics(null));
+            service.notifyRobotics(REFERENCE, null));
+    }
+
+    @Nested
+    class Batched {
+
+        private final byte[] roboticsJson = "{}".getBytes(StandardCharsets.UTF_8);
+        private final RoboticsEmailConfiguration batchConfiguration = new RoboticsEmailConfiguration();
+        private final MeterRegistry batchMeterRegistry = new SimpleMeterRegistry();
+        private RoboticsNotificationService batchingService;
+
+        @BeforeEach
+        void setUp() {
+            batchConfiguration.setSender("no-reply@example.com");
+            batchConfiguration.setRecipient("recipient@example.com");
+            batchConfiguration.getBatch().setEnabled(true);
+            batchConfiguration.getBatch().setWindow(Duration.ofMillis(200));
+            batchConfiguration.getBatch().setMaxSize(3);
+            batchingService = new RoboticsNotificationService(sendGridClient, batchConfiguration, batchMeterRegistry);
+        }
+
+        @AfterEach
+        void tearDown() {
+            batchingService.destroy();
+        }
+
+        @Test
+        void shouldSendOneEmailWithAttachmentPerCase_whenBatchIsFull() throws Exception {
+            List<Future<Object>> notifications = notifyConcurrently("000LR001", "000LR002", "000LR003");
+
+            for (Future<Object> notification : notifications) {
+                notification.get();
+            }
+            verify(sendGridClient).sendEmail(eq("no-reply@example.com"), emailDataArgumentCaptor.capture());
+
+            EmailData capturedEmailData = emailDataArgumentCaptor.getValue();
+            assertThat(capturedEmailData.getSubject()).isEqualTo("Robotics case data for 3 cases");
+            assertThat(capturedEmailData.getAttachments())
+                .extracting("filename")
+                .containsExactlyInAnyOrder(
+                    "CaseData_000LR001.json",
+                    "CaseData_000LR002.json",
+                    "CaseData_000LR003.json"
+                );
+            assertThat(batchMeterRegistry.counter("robotics.notification.cases", "result", "delivered").count())
+                .isEqualTo(3);
+        }
+
+        @Test
+        void shouldSendWaitingCase_whenBatchWindowEnds() {
+            batchingService.notifyRobotics(REFERENCE, roboticsJson);
+
+            verify(sendGridClient).sendEmail(eq("no-reply@example.com"), emailDataArgumentCaptor.capture());
+            assertThat(emailDataArgumentCaptor.getValue().getSubject())
+                .isEqualTo(format("Robotics case data for %s", REFERENCE));
+        }
+
+        @Test
+        void shouldFailEveryCaseOfBatch_whenEmailCannotBeSent() throws Exception {
+            doThrow(new IllegalStateException("SendGrid unavailable"))
+                .when(sendGridClient).sendEmail(anyString(), any(EmailData.class));
+
+            List<Future<Object>> notifications = notifyConcurrently("000LR001", "000LR002");
+
+            for (Future<Object> notification : notifications) {
+                ExecutionException exception = assertThrows(ExecutionException.class, notification::get);
+                assertThat(exception).hasCauseInstanceOf(IllegalStateException.class);
+            }
+            verify(sendGridClient).sendEmail(anyString(), any(EmailData.class));
+            assertThat(batchMeterRegistry.counter("robotics.notification.cases", "result", "failed").count())
+                .isEqualTo(2);
+        }
+
+        private List<Future<Object>> notifyConcurrently(String... references) throws InterruptedException {
+            ExecutorService executor = Executors.newFixedThreadPool(references.length);
+            try {
+                return executor.invokeAll(Stream.of(references)
+                    .map(reference -> (Callable<Object>) () -> {
+                        batchingService.notifyRobotics(reference, roboticsJson);
+                        return null;
+                    })
+                    .collect(Collectors.toList()));
+            } finally {
+                executor.shutdown();
+            }
+        }
     }
 }
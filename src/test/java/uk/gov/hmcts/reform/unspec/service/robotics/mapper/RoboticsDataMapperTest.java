@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.unspec.service.robotics.mapper;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +24,7 @@ import uk.gov.hmcts.reform.unspec.model.SolicitorOrganisationDetails;
 import uk.gov.hmcts.reform.unspec.model.robotics.RoboticsCaseData;
 import uk.gov.hmcts.reform.unspec.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.unspec.service.OrganisationService;
+import uk.gov.hmcts.reform.unspec.service.UserTokenCache;
 import uk.gov.hmcts.reform.unspec.service.flowstate.StateFlowEngine;
 
 import java.util.List;
@@ -39,7 +41,8 @@ import static org.mockito.BDDMockito.given;
     EventHistoryMapper.class,
     RoboticsDataMapper.class,
     RoboticsAddressMapper.class,
-    OrganisationService.class
+    OrganisationService.class,
+    SimpleMeterRegistry.class
 })
 @ExtendWith(SpringExtension.class)
 class RoboticsDataMapperTest {
@@ -66,6 +69,8 @@ class RoboticsDataMapperTest {
     @MockBean
     IdamClient idamClient;
     @MockBean
+    UserTokenCache userTokenCache;
+    @MockBean
     PrdAdminUserConfiguration userConfig;
 
     @BeforeEach
@@ -13,14 +13,14 @@ class CaseReadyBusinessProcessSearchServiceTest extends ElasticSearchServiceTest
 
     @BeforeEach
     void setup() {
-        searchService = new CaseReadyBusinessProcessSearchService(coreCaseDataService);
+        searchService = new CaseReadyBusinessProcessSearchService(coreCaseDataService, PAGE_SIZE);
     }
 
     @Override
-    protected Query buildQuery(int fromValue) {
+    protected Query buildQuery(Long searchAfter) {
         BoolQueryBuilder query = boolQuery()
             .must(matchQuery("data.businessProcess.status", "READY"));
 
-        return new Query(query, List.of(), fromValue);
+        return Query.pageAfter(query, List.of("reference", "data.businessProcess"), PAGE_SIZE, searchAfter);
     }
 }
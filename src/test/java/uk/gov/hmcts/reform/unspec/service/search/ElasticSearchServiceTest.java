@@ -11,7 +11,10 @@ import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.unspec.model.search.Query;
 import uk.gov.hmcts.reform.unspec.service.CoreCaseDataService;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,6 +26,8 @@ import static org.mockito.Mockito.when;
 @ExtendWith(SpringExtension.class)
 abstract class ElasticSearchServiceTest {
 
+    protected static final int PAGE_SIZE = 2;
+
     @Captor
     private ArgumentCaptor<Query> queryCaptor;
 
@@ -32,62 +37,83 @@ abstract class ElasticSearchServiceTest {
     protected ElasticSearchService searchService;
 
     @Test
-    void shouldCallGetCasesOnce_WhenCasesReturnEqualsTotalCases() {
-        SearchResult searchResult = buildSearchResultWithTotalCases(1);
+    void shouldCallGetCasesOnce_WhenPageIsNotFull() {
+        SearchResult searchResult = buildSearchResult(casesWithIds(1L));
 
         when(coreCaseDataService.searchCases(any())).thenReturn(searchResult);
 
-        assertThat(searchService.getCases()).isEqualTo(searchResult.getCases());
+        assertThat(searchService.getCases()).containsExactlyElementsOf(searchResult.getCases());
         verify(coreCaseDataService).searchCases(queryCaptor.capture());
-        assertThat(queryCaptor.getValue()).isEqualToComparingFieldByField(buildQuery(0));
+        assertThat(queryCaptor.getValue()).isEqualToComparingFieldByField(buildQuery(null));
     }
 
     @Test
     void shouldCallGetCasesOnce_WhenNoCasesReturned() {
-        SearchResult searchResult = buildSearchResult(0, emptyList());
+        SearchResult searchResult = buildSearchResult(emptyList());
 
         when(coreCaseDataService.searchCases(any())).thenReturn(searchResult);
 
         assertThat(searchService.getCases()).isEmpty();
         verify(coreCaseDataService).searchCases(queryCaptor.capture());
-        assertThat(queryCaptor.getValue()).isEqualToComparingFieldByField(buildQuery(0));
+        assertThat(queryCaptor.getValue()).isEqualToComparingFieldByField(buildQuery(null));
     }
 
     @Test
-    void shouldCallGetCasesOnce_WhenCasesRetrievedEqualsEsSearchLimit() {
-        SearchResult searchResult = buildSearchResultWithTotalCases(10);
+    void shouldSearchAfterLastCaseOfPage_WhenPageIsFull() {
+        when(coreCaseDataService.searchCases(any())).thenReturn(
+            buildSearchResult(casesWithIds(1L, 2L)),
+            buildSearchResult(casesWithIds(3L, 4L)),
+            buildSearchResult(casesWithIds(5L))
+        );
 
-        when(coreCaseDataService.searchCases(any())).thenReturn(searchResult);
+        assertThat(searchService.getCases().map(CaseDetails::getId)).containsExactly(1L, 2L, 3L, 4L, 5L);
+        verify(coreCaseDataService, times(3)).searchCases(queryCaptor.capture());
 
-        assertThat(searchService.getCases()).hasSize(1);
-        verify(coreCaseDataService).searchCases(queryCaptor.capture());
-        assertThat(queryCaptor.getValue()).isEqualToComparingFieldByField(buildQuery(0));
+        List<Query> capturedQueries = queryCaptor.getAllValues();
+        assertThat(capturedQueries.get(0)).isEqualToComparingFieldByField(buildQuery(null));
+        assertThat(capturedQueries.get(1)).isEqualToComparingFieldByField(buildQuery(2L));
+        assertThat(capturedQueries.get(2)).isEqualToComparingFieldByField(buildQuery(4L));
     }
 
     @Test
-    void shouldCallGetCasesMultipleTimes_WhenCasesReturnedIsMoreThanEsSearchLimit() {
-        SearchResult searchResult = buildSearchResultWithTotalCases(11);
-
-        when(coreCaseDataService.searchCases(any())).thenReturn(searchResult);
+    void shouldStopSearching_WhenFullPageIsFollowedByEmptyPage() {
+        when(coreCaseDataService.searchCases(any())).thenReturn(
+            buildSearchResult(casesWithIds(1L, 2L)),
+            buildSearchResult(emptyList())
+        );
 
         assertThat(searchService.getCases()).hasSize(2);
-        verify(coreCaseDataService, times(2)).searchCases(queryCaptor.capture());
+        verify(coreCaseDataService, times(2)).searchCases(any());
+    }
 
-        List<Query> capturedQueries = queryCaptor.getAllValues();
-        assertThat(capturedQueries.get(0)).isEqualToComparingFieldByField(buildQuery(0));
-        assertThat(capturedQueries.get(1)).isEqualToComparingFieldByField(buildQuery(10));
+    @Test
+    void shouldSearchNextPage_OnlyWhenStreamReachesIt() {
+        when(coreCaseDataService.searchCases(any())).thenReturn(
+            buildSearchResult(casesWithIds(1L, 2L)),
+            buildSearchResult(casesWithIds(3L))
+        );
+
+        Iterator<CaseDetails> cases = searchService.getCases().iterator();
+        cases.next();
+        verify(coreCaseDataService).searchCases(any());
+
+        cases.next();
+        cases.next();
+        verify(coreCaseDataService, times(2)).searchCases(any());
     }
 
-    private SearchResult buildSearchResultWithTotalCases(int i) {
-        return buildSearchResult(i, List.of(CaseDetails.builder().id(1L).build()));
+    private List<CaseDetails> casesWithIds(long... ids) {
+        return LongStream.of(ids)
+            .mapToObj(id -> CaseDetails.builder().id(id).build())
+            .collect(Collectors.toList());
     }
 
-    private SearchResult buildSearchResult(int i, List<CaseDetails> caseDetails) {
+    private SearchResult buildSearchResult(List<CaseDetails> caseDetails) {
         return SearchResult.builder()
-            .total(i)
+            .total(caseDetails.size())
             .cases(caseDetails)
             .build();
     }
 
-    protected abstract Query buildQuery(int fromValue);
+    protected abstract Query buildQuery(Long searchAfter);
 }
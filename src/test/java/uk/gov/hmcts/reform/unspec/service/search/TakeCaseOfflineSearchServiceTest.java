@@ -14,17 +14,17 @@ class TakeCaseOfflineSearchServiceTest extends ElasticSearchServiceTest {
 
     @BeforeEach
     void setup() {
-        searchService = new TakeCaseOfflineSearchService(coreCaseDataService);
+        searchService = new TakeCaseOfflineSearchService(coreCaseDataService, PAGE_SIZE);
     }
 
     @Override
-    protected Query buildQuery(int fromValue) {
+    protected Query buildQuery(Long searchAfter) {
         BoolQueryBuilder query = boolQuery()
             .must(rangeQuery("data.applicant1ResponseDeadline").lt("now"))
             .must(boolQuery()
                       .minimumShouldMatch(1)
                       .should(matchQuery("state", "AWAITING_APPLICANT_INTENTION")));
 
-        return new Query(query, List.of("reference"), fromValue);
+        return Query.pageAfter(query, List.of("reference"), PAGE_SIZE, searchAfter);
     }
 }
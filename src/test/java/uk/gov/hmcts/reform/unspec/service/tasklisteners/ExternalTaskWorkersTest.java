@@ -0,0 +1,137 @@
+package uk.gov.hmcts.reform.unspec.service.tasklisteners;
+
+import org.camunda.bpm.client.ExternalTaskClient;
+import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.client.task.ExternalTaskHandler;
+import org.camunda.bpm.client.task.ExternalTaskService;
+import org.camunda.bpm.client.topic.TopicSubscriptionBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.unspec.config.properties.camunda.ExternalTaskProperties;
+import uk.gov.hmcts.reform.unspec.config.properties.camunda.ExternalTaskProperties.TopicProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExternalTaskWorkersTest {
+
+    private static final String TOPIC = "processCaseEvent";
+
+    @Mock
+    private ExternalTaskClient sharedClient;
+
+    @Mock
+    private ExternalTaskClient topicClient;
+
+    @Mock
+    private TopicSubscriptionBuilder subscriptionBuilder;
+
+    private final ExternalTaskProperties properties = new ExternalTaskProperties();
+    private final List<TopicProperties> createdClients = new ArrayList<>();
+
+    private ExternalTaskWorkers externalTaskWorkers;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(subscriptionBuilder.handler(any())).thenReturn(subscriptionBuilder);
+        externalTaskWorkers = new ExternalTaskWorkers(sharedClient, properties, topicProperties -> {
+            createdClients.add(topicProperties);
+            return topicClient;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        externalTaskWorkers.destroy();
+    }
+
+    @Test
+    void shouldSubscribeWithSharedClient_whenTopicNotConfigured() {
+        ExternalTaskHandler handler = mock(ExternalTaskHandler.class);
+        when(sharedClient.subscribe(TOPIC)).thenReturn(subscriptionBuilder);
+
+        externalTaskWorkers.subscribe(TOPIC, handler);
+
+        verify(subscriptionBuilder).handler(handler);
+        verify(subscriptionBuilder).open();
+        verifyNoInteractions(topicClient);
+        assertThat(createdClients).isEmpty();
+    }
+
+    @Test
+    void shouldSubscribeWithOwnClient_whenTopicConfigured() throws InterruptedException {
+        TopicProperties topicProperties = new TopicProperties();
+        topicProperties.setConcurrency(1);
+        properties.getTopics().put(TOPIC, topicProperties);
+        ExternalTaskHandler handler = mock(ExternalTaskHandler.class);
+        when(topicClient.subscribe(TOPIC)).thenReturn(subscriptionBuilder);
+
+        externalTaskWorkers.subscribe(TOPIC, handler);
+        externalTaskWorkers.destroy();
+
+        assertThat(createdClients).containsExactly(topicProperties);
+        verify(subscriptionBuilder).handler(handler);
+        verify(subscriptionBuilder).open();
+        verify(topicClient).stop();
+        verifyNoInteractions(sharedClient);
+    }
+
+    @Test
+    void shouldHandleTasksConcurrently_whenTopicConfiguredWithWorkers() throws InterruptedException {
+        TopicProperties topicProperties = new TopicProperties();
+        topicProperties.setMaxTasks(2);
+        topicProperties.setConcurrency(2);
+        properties.getTopics().put(TOPIC, topicProperties);
+        when(topicClient.subscribe(TOPIC)).thenReturn(subscriptionBuilder);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        externalTaskWorkers.subscribe(TOPIC, (externalTask, externalTaskService) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        ArgumentCaptor<ExternalTaskHandler> handler = ArgumentCaptor.forClass(ExternalTaskHandler.class);
+        verify(subscriptionBuilder).handler(handler.capture());
+        handler.getValue().execute(mock(ExternalTask.class), mock(ExternalTaskService.class));
+        handler.getValue().execute(mock(ExternalTask.class), mock(ExternalTaskService.class));
+
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    void shouldRejectTopic_whenMaxTasksExceedsConcurrency() {
+        TopicProperties topicProperties = new TopicProperties();
+        topicProperties.setMaxTasks(10);
+        topicProperties.setConcurrency(1);
+        properties.getTopics().put(TOPIC, topicProperties);
+        ExternalTaskHandler handler = mock(ExternalTaskHandler.class);
+
+        assertThrows(IllegalArgumentException.class, () -> externalTaskWorkers.subscribe(TOPIC, handler));
+
+        assertThat(createdClients).isEmpty();
+        verifyNoInteractions(sharedClient, topicClient);
+    }
+}
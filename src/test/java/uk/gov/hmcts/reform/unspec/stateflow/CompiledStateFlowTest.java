@@ -0,0 +1,161 @@
+package uk.gov.hmcts.reform.unspec.stateflow;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.stateflow.exception.StateFlowException;
+import uk.gov.hmcts.reform.unspec.stateflow.model.State;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompiledStateFlowTest {
+
+    enum FlowState {
+        STATE_1,
+        STATE_2,
+        STATE_3
+    }
+
+    enum SubflowState {
+        STATE_1,
+        STATE_2
+    }
+
+    private final CaseData caseData = CaseData.builder().build();
+
+    @Nested
+    class Evaluate {
+
+        @Test
+        void shouldEvaluateStateAndGetStateHistory() {
+            Predicate<CaseData> firstPredicate = c -> {
+                assertThat(c).isSameAs(caseData);
+                return true;
+            };
+
+            Predicate<CaseData> secondPredicate = c -> {
+                assertThat(c).isSameAs(caseData);
+                return false;
+            };
+
+            CompiledStateFlow compiledStateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2).onlyIf(firstPredicate)
+                .state(FlowState.STATE_2)
+                .transitionTo(FlowState.STATE_3).onlyIf(secondPredicate)
+                .state(FlowState.STATE_3)
+                .compile();
+
+            StateFlow stateFlow = compiledStateFlow.evaluate(caseData);
+
+            assertThat(stateFlow.getState())
+                .extracting(State::getName)
+                .isEqualTo("FLOW.STATE_2");
+            assertThat(stateFlow.getStateHistory())
+                .extracting(State::getName)
+                .containsExactly("FLOW.STATE_1", "FLOW.STATE_2");
+        }
+
+        @Test
+        void shouldFollowImplicitTransitions() {
+            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2).onlyIf(c -> false)
+                .transitionTo(FlowState.STATE_3)
+                .state(FlowState.STATE_2)
+                .state(FlowState.STATE_3)
+                .compile()
+                .evaluate(caseData);
+
+            assertThat(stateFlow.getStateHistory())
+                .extracting(State::getName)
+                .containsExactly("FLOW.STATE_1", "FLOW.STATE_3");
+        }
+
+        @Test
+        void shouldIgnoreTransition_whenTransitionToUndefinedState() {
+            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2)
+                .state(FlowState.STATE_2)
+                .transitionTo(FlowState.STATE_3)
+                .compile()
+                .evaluate(caseData);
+
+            assertThat(stateFlow.getState())
+                .extracting(State::getName)
+                .isEqualTo("FLOW.STATE_2");
+        }
+
+        @Test
+        void shouldEnterSubflowStates() {
+            Consumer<StateFlowContext> subflow = stateFlowContext ->
+                StateFlowBuilder.<SubflowState>subflow("SUBFLOW", stateFlowContext)
+                    .transitionTo(SubflowState.STATE_1)
+                    .state(SubflowState.STATE_1)
+                    .transitionTo(SubflowState.STATE_2)
+                    .state(SubflowState.STATE_2);
+
+            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2)
+                .state(FlowState.STATE_2)
+                .subflow(subflow)
+                .compile()
+                .evaluate(caseData);
+
+            assertThat(stateFlow.getStateHistory())
+                .extracting(State::getName)
+                .containsExactly("FLOW.STATE_1", "FLOW.STATE_2", "SUBFLOW.STATE_1", "SUBFLOW.STATE_2");
+        }
+
+        @Test
+        void shouldThrowStateFlowExceptionOnGetState_whenAmbiguousTransitions() {
+            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2).onlyIf(c -> true)
+                .transitionTo(FlowState.STATE_3)
+                .state(FlowState.STATE_2)
+                .state(FlowState.STATE_3)
+                .compile()
+                .evaluate(caseData);
+
+            assertThat(stateFlow.getStateHistory())
+                .extracting(State::getName)
+                .containsExactly("FLOW.STATE_1", "FLOW.STATE_3");
+            Exception exception = assertThrows(StateFlowException.class, stateFlow::getState);
+            assertThat(exception.getMessage()).isEqualTo("The state machine is at error state.");
+        }
+
+        @Test
+        void shouldReturnIndependentResults_whenEvaluatedMoreThanOnce() {
+            CompiledStateFlow compiledStateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2).onlyIf(c -> c.getLegacyCaseReference() != null)
+                .state(FlowState.STATE_2)
+                .compile();
+
+            StateFlow first = compiledStateFlow.evaluate(caseData);
+            StateFlow second = compiledStateFlow.evaluate(CaseData.builder().legacyCaseReference("000LR001").build());
+
+            assertThat(first.getState()).extracting(State::getName).isEqualTo("FLOW.STATE_1");
+            assertThat(second.getState()).extracting(State::getName).isEqualTo("FLOW.STATE_2");
+        }
+
+        @Test
+        void shouldThrowStateFlowException_whenTransitionsAreCyclic() {
+            CompiledStateFlow compiledStateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2)
+                .state(FlowState.STATE_2)
+                .transitionTo(FlowState.STATE_1)
+                .compile();
+
+            assertThrows(StateFlowException.class, () -> compiledStateFlow.evaluate(caseData));
+        }
+    }
+}
@@ -4,13 +4,13 @@ import org.assertj.core.api.AbstractAssert;
 import org.springframework.statemachine.test.StateMachineTestPlan;
 import org.springframework.statemachine.test.StateMachineTestPlanBuilder;
 
-public class StateFlowAssert extends AbstractAssert<StateFlowAssert, StateFlow> {
+public class StateFlowAssert extends AbstractAssert<StateFlowAssert, StateMachineStateFlow> {
 
-    private StateFlowAssert(StateFlow actual) {
+    private StateFlowAssert(StateMachineStateFlow actual) {
         super(actual, StateFlowAssert.class);
     }
 
-    public static StateFlowAssert assertThat(StateFlow actual) {
+    public static StateFlowAssert assertThat(StateMachineStateFlow actual) {
         return new StateFlowAssert(actual);
     }
 
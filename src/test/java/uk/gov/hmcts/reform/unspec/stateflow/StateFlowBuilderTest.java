@@ -105,7 +105,7 @@ class StateFlowBuilderTest {
 
         @Test
         void shouldBuildStateFlow_whenTransitionIsImplicit() {
-            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+            StateMachineStateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2)
                 .state(FlowState.STATE_2)
@@ -117,7 +117,7 @@ class StateFlowBuilderTest {
 
         @Test
         void shouldBuildStateFlow_whenTransitionHasTrueCondition() {
-            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+            StateMachineStateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2).onlyIf(caseDetails -> true)
                 .state(FlowState.STATE_2)
@@ -129,7 +129,7 @@ class StateFlowBuilderTest {
 
         @Test
         void shouldBuildStateFlow_whenTransitionHasFalseCondition() {
-            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+            StateMachineStateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2).onlyIf(caseDetails -> false)
                 .state(FlowState.STATE_2)
@@ -141,7 +141,7 @@ class StateFlowBuilderTest {
 
         @Test
         void shouldBuildStateFlow_whenTransitionsAreMutuallyExclusive() {
-            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+            StateMachineStateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2).onlyIf(caseDetails -> false)
                 .transitionTo(FlowState.STATE_3).onlyIf(caseDetails -> true)
@@ -155,7 +155,7 @@ class StateFlowBuilderTest {
 
         @Test
         void shouldBuildStateFlow_whenTransitionsAreMutuallyExclusiveIncludingImplicitTransitions() {
-            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+            StateMachineStateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2).onlyIf(caseDetails -> false)
                 .transitionTo(FlowState.STATE_3)
@@ -169,7 +169,7 @@ class StateFlowBuilderTest {
 
         @Test
         void shouldBuildStateFlow_whenTransitionToMultipleStates() {
-            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+            StateMachineStateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2).onlyIf(caseDetails -> true)
                 .state(FlowState.STATE_2)
@@ -183,7 +183,7 @@ class StateFlowBuilderTest {
 
         @Test
         void shouldBuildStateFlow_whenTransitionToUndefinedState() {
-            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+            StateMachineStateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2).onlyIf(caseDetails -> true)
                 .state(FlowState.STATE_2)
@@ -203,7 +203,7 @@ class StateFlowBuilderTest {
                     .transitionTo(SubflowState.STATE_2)
                     .state(SubflowState.STATE_2);
 
-            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+            StateMachineStateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
                 .initial(FlowState.STATE_1)
                 .subflow(subflow)
                 .state(FlowState.STATE_2)
@@ -222,7 +222,7 @@ class StateFlowBuilderTest {
                     .transitionTo(SubflowState.STATE_2)
                     .state(SubflowState.STATE_2);
 
-            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+            StateMachineStateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2)
                 .state(FlowState.STATE_2)
@@ -240,7 +240,7 @@ class StateFlowBuilderTest {
 
         @Test
         void shouldSetStateMachineError_whenConditionsOnTransitionsAreNotMutuallyExclusive() {
-            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+            StateMachineStateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2).onlyIf(caseDetails -> true)
                 .transitionTo(FlowState.STATE_3).onlyIf(caseDetails -> true)
@@ -254,7 +254,7 @@ class StateFlowBuilderTest {
 
         @Test
         void shouldSetStateMachineError_whenMoreThanOneTransitionsAreImplicit() {
-            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+            StateMachineStateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2)
                 .transitionTo(FlowState.STATE_3)
@@ -268,7 +268,7 @@ class StateFlowBuilderTest {
 
         @Test
         void shouldSetStateMachineError_whenImplicitTransitionAndConditionalTransitionAreNotMutuallyExclusive() {
-            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+            StateMachineStateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2).onlyIf(caseDetails -> true)
                 .transitionTo(FlowState.STATE_3)
@@ -287,7 +287,7 @@ class StateFlowBuilderTest {
                     .transitionTo(SubflowState.STATE_1)
                     .state(SubflowState.STATE_1);
 
-            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+            StateMachineStateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2)
                 .subflow(subflow)
@@ -316,7 +316,7 @@ class StateFlowBuilderTest {
                 return false;
             };
 
-            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+            StateMachineStateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2).onlyIf(firstPredicate)
                 .state(FlowState.STATE_2)
@@ -340,7 +340,7 @@ class StateFlowBuilderTest {
         void shouldEvaluateStateAndGetStateHistory_whenAmbiguousTransitions() {
             CaseData caseData = CaseData.builder().build();
 
-            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+            StateMachineStateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
                 .initial(FlowState.STATE_1)
                 .transitionTo(FlowState.STATE_2)
                 .transitionTo(FlowState.STATE_3)
@@ -0,0 +1,74 @@
+package uk.gov.hmcts.reform.unspec.stateflow;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.unspec.model.CaseData;
+import uk.gov.hmcts.reform.unspec.stateflow.exception.StateFlowException;
+import uk.gov.hmcts.reform.unspec.stateflow.grammar.Build;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StateFlowConformanceTest {
+
+    enum FlowState {
+        STATE_1,
+        STATE_2,
+        STATE_3
+    }
+
+    private final CaseData caseData = CaseData.builder().build();
+
+    @Test
+    void shouldReturnExpectedStateFlow_whenBackendsAgree() {
+        Supplier<Build> flow = () -> StateFlowBuilder.<FlowState>flow("FLOW")
+            .initial(FlowState.STATE_1)
+            .transitionTo(FlowState.STATE_2).onlyIf(c -> true)
+            .state(FlowState.STATE_2)
+            .transitionTo(FlowState.STATE_3).onlyIf(c -> false)
+            .state(FlowState.STATE_3);
+
+        StateFlow expected = flow.get().build().evaluate(caseData);
+        StateFlow actual = flow.get().compile().evaluate(caseData);
+
+        assertThat(StateFlowConformance.verify(expected, actual)).isSameAs(expected);
+    }
+
+    @Test
+    void shouldReturnExpectedStateFlow_whenBothBackendsDetectAmbiguousTransitions() {
+        Supplier<Build> flow = () -> StateFlowBuilder.<FlowState>flow("FLOW")
+            .initial(FlowState.STATE_1)
+            .transitionTo(FlowState.STATE_2)
+            .transitionTo(FlowState.STATE_3)
+            .state(FlowState.STATE_2)
+            .state(FlowState.STATE_3);
+
+        StateFlow expected = flow.get().build().evaluate(caseData);
+        StateFlow actual = flow.get().compile().evaluate(caseData);
+
+        assertThat(StateFlowConformance.verify(expected, actual)).isSameAs(expected);
+    }
+
+    @Test
+    void shouldThrowStateFlowException_whenBackendsDiverge() {
+        StateFlow expected = StateFlowBuilder.<FlowState>flow("FLOW")
+            .initial(FlowState.STATE_1)
+            .transitionTo(FlowState.STATE_2)
+            .state(FlowState.STATE_2)
+            .build()
+            .evaluate(caseData);
+        StateFlow actual = StateFlowBuilder.<FlowState>flow("FLOW")
+            .initial(FlowState.STATE_1)
+            .transitionTo(FlowState.STATE_3)
+            .state(FlowState.STATE_3)
+            .compile()
+            .evaluate(caseData);
+
+        Exception exception = assertThrows(
+            StateFlowException.class,
+            () -> StateFlowConformance.verify(expected, actual)
+        );
+        assertThat(exception.getMessage()).startsWith("StateFlow evaluation diverged");
+    }
+}
@@ -26,7 +26,7 @@ import static uk.gov.hmcts.reform.unspec.stateflow.StateFlowContext.EXTENDED_STA
 import static uk.gov.hmcts.reform.unspec.stateflow.StateFlowContext.EXTENDED_STATE_HISTORY_KEY;
 
 @ExtendWith(SpringExtension.class)
-class StateFlowTest {
+class StateMachineStateFlowTest {
 
     private static String TEST_STATE = "TEST_STATE";
 
@@ -65,7 +65,7 @@ class StateFlowTest {
 
         @Test
         void shouldReturnAsStateMachine() {
-            StateFlow stateFlow = new StateFlow(mockedStateMachine);
+            StateMachineStateFlow stateFlow = new StateMachineStateFlow(mockedStateMachine);
 
             assertThat(stateFlow.asStateMachine()).isSameAs(mockedStateMachine);
         }
@@ -85,7 +85,7 @@ class StateFlowTest {
 
             CaseData caseData = CaseData.builder().build();
 
-            StateFlow stateFlow = new StateFlow(mockedStateMachine);
+            StateMachineStateFlow stateFlow = new StateMachineStateFlow(mockedStateMachine);
 
             assertThat(stateFlow.evaluate(caseData)).isSameAs(stateFlow);
             verify(mockedVariables).put(EXTENDED_STATE_CASE_KEY, caseData);
@@ -102,7 +102,7 @@ class StateFlowTest {
             when(mockedStateMachine.hasStateMachineError()).thenReturn(false);
             when(mockedStateMachine.getState()).thenReturn(mockedState);
 
-            StateFlow stateFlow = new StateFlow(mockedStateMachine);
+            StateMachineStateFlow stateFlow = new StateMachineStateFlow(mockedStateMachine);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -113,7 +113,7 @@ class StateFlowTest {
         @Test
         void shouldThrowStateFlowException_whenStateMachineHasErrors() {
             when(mockedStateMachine.hasStateMachineError()).thenReturn(true);
-            StateFlow stateFlow = new StateFlow(mockedStateMachine);
+            StateMachineStateFlow stateFlow = new StateMachineStateFlow(mockedStateMachine);
 
             Exception exception = assertThrows(StateFlowException.class, stateFlow::getState);
             String expectedMessage = "The state machine is at error state.";
@@ -134,7 +134,7 @@ class StateFlowTest {
             when(mockedStateMachine.getExtendedState()).thenReturn(mockedExtendedState);
             when(mockedExtendedState.get(EXTENDED_STATE_HISTORY_KEY, ArrayList.class)).thenReturn(stateHistory);
 
-            StateFlow stateFlow = new StateFlow(mockedStateMachine);
+            StateMachineStateFlow stateFlow = new StateMachineStateFlow(mockedStateMachine);
 
             assertThat(stateFlow.getStateHistory())
                 .hasSize(2)